@@ -3,6 +3,7 @@ package com.example.bomberman.controller;
 import com.example.bomberman.models.entities.Player;
 import com.example.bomberman.models.world.BotGame;
 import com.example.bomberman.models.world.Game;
+import com.example.bomberman.models.world.GameSetup;
 import com.example.bomberman.service.SoundManager;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
@@ -74,7 +75,7 @@ public class BotGameController extends GameController {
      * Définit le niveau de difficulté du bot
      */
     public void setDifficultyLevel(int level) {
-        this.difficultyLevel = Math.max(1, Math.min(3, level));
+        this.difficultyLevel = Math.max(1, Math.min(GameSetup.EXPERT, level));
         if (botGame != null) {
             botGame.setDifficultyLevel(difficultyLevel);
         }
@@ -91,6 +92,7 @@ public class BotGameController extends GameController {
             case 1: difficultyText = "Facile"; break;
             case 2: difficultyText = "Moyen"; break;
             case 3: difficultyText = "Difficile"; break;
+            case GameSetup.EXPERT: difficultyText = "Expert"; break;
             default: difficultyText = "Inconnu";
         }
         
@@ -125,9 +127,10 @@ public class BotGameController extends GameController {
             "Éliminez le bot en plaçant des bombes stratégiquement.\n" +
             "Collectez des power-ups pour améliorer vos capacités.\n\n" +
             "Difficultés:\n" +
-            "• Facile: Le bot se déplace aléatoirement\n" +
-            "• Moyen: Le bot se déplace vers vous occasionnellement\n" +
-            "• Difficile: Le bot vous traque et pose des bombes intelligemment";
+            "• Facile: Le bot anticipe peu et commet des erreurs\n" +
+            "• Moyen: Le bot anticipe quelques coups à l'avance\n" +
+            "• Difficile: Le bot vous traque et pose des bombes intelligemment\n" +
+            "• Expert: Le bot anticipe la partie en simulant des milliers de coups";
         
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         alert.setTitle("Aide");
@@ -1,10 +1,15 @@
 package com.example.bomberman.controller;
 
-import com.example.bomberman.models.entities.Bomb;
 import com.example.bomberman.models.entities.Player;
 import com.example.bomberman.models.world.Game;
-import com.example.bomberman.models.world.GameBoard;
+import com.example.bomberman.models.world.GameSetup;
+import com.example.bomberman.models.world.GameSnapshot;
+import com.example.bomberman.models.world.InputQueue;
+import com.example.bomberman.models.world.SnapshotBuffer;
+import com.example.bomberman.render.GameRenderer;
+import com.example.bomberman.service.PerformanceMetrics;
 import com.example.bomberman.service.SoundManager;
+import com.example.bomberman.utils.SimulationThread;
 import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
@@ -50,10 +55,17 @@ public class GameController implements Initializable {
     @FXML private Label player1SpeedLabel;
     @FXML private Label player2SpeedLabel;
 
-    // Modèle du jeu
-    protected Game game;
+    // Modèle du jeu (lu à chaque tick par le thread de simulation)
+    protected volatile Game game;
     private GraphicsContext gc;
+    private GameRenderer renderer;
     private AnimationTimer gameLoop;
+    private SimulationThread simulation;
+
+    // Échanges avec le thread de simulation : instantanés pour le rendu, commandes des joueurs
+    private final SnapshotBuffer snapshots = new SnapshotBuffer();
+    private GameSnapshot snapshot;
+    private final InputQueue inputs = new InputQueue();
 
     // Gestion des entrées
     private Set<KeyCode> pressedKeys;
@@ -63,13 +75,18 @@ public class GameController implements Initializable {
 
     // Configuration
     private static final int TILE_SIZE = 40;
+    // Taille fixe du canvas pour les niveaux personnalisés : la caméra fait défiler les grands plateaux
+    private static final int VIEWPORT_WIDTH = 800;
+    private static final int VIEWPORT_HEIGHT = 600;
 
     // État du jeu
-    private boolean gameRunning;
+    private volatile boolean gameRunning;
     private long gameStartTime;
     private long pauseStartTime;
     private long totalPauseTime;
-    private boolean isPaused = false;
+    private volatile boolean isPaused = false;
+    // Overlay de pause déjà dessiné : l'image reste figée jusqu'à la reprise
+    private boolean pauseOverlayDrawn = false;
     
     // Mode test de l'éditeur
     private boolean isTestMode = false;
@@ -79,11 +96,31 @@ public class GameController implements Initializable {
     private String currentMusic = "game_music";
     private boolean wasPlayingMusic = true;
 
+    // Affichage des métriques de performance (F3)
+    private boolean showMetrics = false;
+
+    // HUD : les labels ne sont modifiés que lorsque leur valeur change
+    private static final int STATUS_RUNNING = 0;
+    private static final int STATUS_PAUSED = 1;
+    private static final int STATUS_OVER = 2;
+    private final HudModel hud = new HudModel();
+    private HudModel.Field player1Bombs, player2Bombs;
+    private HudModel.Field player1Lives, player2Lives;
+    private HudModel.Field player1Score, player2Score;
+    private HudModel.Field player1MaxBombs, player2MaxBombs;
+    private HudModel.Field player1Range, player2Range;
+    private HudModel.Field player1Speed, player2Speed;
+    private HudModel.Field elapsedSeconds;
+    private HudModel.Field gameStatus;
+
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
         gc = gameCanvas.getGraphicsContext2D();
+        renderer = new GameRenderer();
         pressedKeys = new HashSet<>();
         soundManager = SoundManager.getInstance();
+        simulation = new SimulationThread(this::update);
+        bindHud();
 
         initializeGame();
         setupEventHandlers();
@@ -97,16 +134,50 @@ public class GameController implements Initializable {
         startGameLoop();
     }
 
+    /**
+     * Associe les valeurs affichées aux labels du HUD
+     */
+    private void bindHud() {
+        player1Bombs = hud.bind(player1BombsLabel);
+        player2Bombs = hud.bind(player2BombsLabel);
+        player1Lives = hud.bind(player1LivesLabel);
+        player2Lives = hud.bind(player2LivesLabel);
+        player1Score = hud.bind(player1InfoLabel, score -> "Joueur 1 - Score: " + score);
+        player2Score = hud.bind(player2InfoLabel, this::formatPlayer2Score);
+        player1MaxBombs = hud.bind(player1BombsInfoLabel);
+        player2MaxBombs = hud.bind(player2BombsInfoLabel);
+        player1Range = hud.bind(player1RangeLabel);
+        player2Range = hud.bind(player2RangeLabel);
+        player1Speed = hud.bind(player1SpeedLabel);
+        player2Speed = hud.bind(player2SpeedLabel);
+        elapsedSeconds = hud.bind(timerLabel, this::formatTime);
+        gameStatus = hud.bind(gameStatusLabel, status -> {
+            switch (status) {
+                case STATUS_PAUSED: return "PAUSE";
+                case STATUS_OVER: return "Partie terminée";
+                default: return "En cours";
+            }
+        });
+    }
+
     /**
      * Initialise une nouvelle partie
+     * Au redémarrage, la partie repart avec ses paramètres (niveau, bot et sa difficulté) :
+     * la simulation est alors arrêtée
      */
     protected void initializeGame() {
-        game = new Game();
+        if (game == null) {
+            game = new Game();
+        } else {
+            game.initializeGame();
+            renderer.invalidate();
+        }
         gameRunning = true;
         gameStartTime = System.currentTimeMillis();
         totalPauseTime = 0;
         isPaused = false;
 
+        hud.invalidateAll();
         updateUI();
 
         // Choisir aléatoirement entre les deux musiques du jeu
@@ -134,7 +205,12 @@ public class GameController implements Initializable {
         if (!gameRunning && !isPaused) return;
 
         pressedKeys.add(event.getCode());
-        game.handleKeyPressed(event.getCode());
+        KeyBindings.keyPressed(inputs, event.getCode());
+
+        // Affichage des métriques de performance
+        if (event.getCode() == KeyCode.F3) {
+            showMetrics = !showMetrics;
+        }
 
         // Gestion spéciale pour la pause
         if (event.getCode() == KeyCode.ESCAPE) {
@@ -155,20 +231,25 @@ public class GameController implements Initializable {
     @FXML
     public void handleKeyReleased(KeyEvent event) {
         pressedKeys.remove(event.getCode());
-        game.handleKeyReleased(event.getCode());
+        KeyBindings.keyReleased(inputs, event.getCode());
     }
 
     /**
-     * Met à jour la logique du jeu
+     * Met à jour la logique du jeu (un tick de simulation, sur le thread de simulation)
+     * Les commandes reçues depuis le dernier tick sont appliquées, puis l'état est publié pour le rendu
      */
     public void update() {
-        if (!gameRunning || isPaused) return;
+        Game current = game;
+        inputs.drainTo(current);
 
-        game.update();
-        updateGameStatus();
+        if (gameRunning && !isPaused) {
+            current.update();
 
-        // Vérifier les conditions de victoire
-        checkWinConditions();
+            // Vérifier les conditions de victoire
+            checkWinConditions();
+        }
+
+        snapshots.publish(current);
     }
 
     /**
@@ -262,12 +343,12 @@ public class GameController implements Initializable {
         
         if (isPaused) {
             pauseStartTime = System.currentTimeMillis();
-            gameStatusLabel.setText("PAUSE");
+            gameStatus.set(STATUS_PAUSED);
             // Mettre en pause la musique
             soundManager.stopBackgroundMusic();
         } else {
             totalPauseTime += System.currentTimeMillis() - pauseStartTime;
-            gameStatusLabel.setText("En cours");
+            gameStatus.set(STATUS_RUNNING);
             // Reprendre la musique
             soundManager.playBackgroundMusic(currentMusic);
         }
@@ -314,16 +395,18 @@ public class GameController implements Initializable {
 
     /**
      * Démarre la boucle de jeu
+     * La simulation avance par ticks fixes sur son propre thread, le rendu suit la fréquence de l'écran
      */
     private void startGameLoop() {
         if (gameLoop != null) {
             gameLoop.stop();
         }
+        simulation.start();
 
         gameLoop = new AnimationTimer() {
             @Override
             public void handle(long now) {
-                update();
+                PerformanceMetrics.getInstance().recordFrame();
                 render();
             }
         };
@@ -338,39 +421,46 @@ public class GameController implements Initializable {
             gameLoop.stop();
             gameLoop = null;
         }
+        simulation.stop();
+        inputs.clear();
+    }
+
+    /**
+     * Modifie la partie pendant que la simulation est arrêtée, puis la relance si elle tournait
+     */
+    private void withSimulationStopped(Runnable action) {
+        boolean wasRunning = simulation != null && simulation.isRunning();
+        if (wasRunning) simulation.stop();
+        action.run();
+        if (wasRunning) simulation.start();
     }
 
     /**
      * Dessine le jeu
      */
     public void render() {
-        // Effacer le canvas
-        gc.clearRect(0, 0, gameCanvas.getWidth(), gameCanvas.getHeight());
-
-        // Récupérer les éléments du jeu
-        GameBoard board = game.getBoard();
-        Player player1 = game.getPlayer1();
-        Player player2 = game.getPlayer2();
-
-        // Dessiner le plateau
-        if (board != null) {
-            board.render(gc, TILE_SIZE);
-        }
-
-        // Dessiner les joueurs
-        if (player1 != null && player1.isAlive()) {
-            player1.render(gc, TILE_SIZE);
+        // Dernier état complet publié par la simulation
+        snapshot = snapshots.acquire();
+        if (snapshot == null) return;
+
+        if (isPaused && pauseOverlayDrawn) {
+            // Image figée sous l'overlay : rien à redessiner tant que la partie est en pause
+            if (showMetrics) {
+                renderMetrics();
+            }
+            updateUI();
+            return;
         }
-        if (player2 != null && player2.isAlive()) {
-            player2.render(gc, TILE_SIZE);
+        if (!isPaused && pauseOverlayDrawn) {
+            // Reprise : l'overlay couvrait tout le canvas
+            pauseOverlayDrawn = false;
+            renderer.invalidate();
         }
 
-        // Dessiner les bombes
-        for (Bomb bomb : game.getBombs()) {
-            bomb.render(gc, TILE_SIZE);
-        }
+        // Dessiner le plateau, les joueurs et les bombes (seules les cases modifiées sont redessinées)
+        renderer.render(gc, snapshot, TILE_SIZE, snapshot.getAlpha(System.nanoTime()));
 
-        // Overlay de pause
+        // Overlay de pause, dessiné une seule fois
         if (isPaused) {
             gc.setFill(Color.BLACK.deriveColor(0, 1, 1, 0.5));
             gc.fillRect(0, 0, gameCanvas.getWidth(), gameCanvas.getHeight());
@@ -381,12 +471,34 @@ public class GameController implements Initializable {
 
             gc.setFont(javafx.scene.text.Font.font("Arial", 16));
             gc.fillText("Appuyez sur Échap pour reprendre", gameCanvas.getWidth()/2 - 120, gameCanvas.getHeight()/2 + 40);
+
+            pauseOverlayDrawn = true;
+        }
+
+        // Métriques de performance
+        if (showMetrics) {
+            renderMetrics();
         }
 
         // Mettre à jour l'interface utilisateur
         updateUI();
     }
 
+    /**
+     * Affiche les métriques de performance en haut à gauche du canvas
+     */
+    private void renderMetrics() {
+        // En pause, le bandeau est redessiné par-dessus lui-même : fond opaque
+        gc.setFill(pauseOverlayDrawn ? Color.BLACK : Color.BLACK.deriveColor(0, 1, 1, 0.6));
+        gc.fillRect(0, 0, 480, 22);
+        gc.setFill(Color.WHITE);
+        gc.setFont(javafx.scene.text.Font.font("Monospaced", 12));
+        gc.fillText(PerformanceMetrics.getInstance().getSummary(snapshot.getPoolHits(), snapshot.getPoolMisses()), 6, 15);
+
+        // Redessiner les cases sous le bandeau à la prochaine frame
+        renderer.invalidateArea(0, 0, 480, 22);
+    }
+
     /**
      * Affiche les informations de jeu sur le canvas
      */
@@ -400,7 +512,14 @@ public class GameController implements Initializable {
      */
     private void updateUI() {
         // Mettre à jour les informations des joueurs
-        updatePlayerInfo();
+        if (snapshot != null) {
+            updatePlayerInfo();
+        }
+
+        // Mettre à jour le statut de la partie en cours
+        if (gameRunning && !isPaused) {
+            updateGameStatus();
+        }
         
         // Mettre à jour le timer
         updateGameTimer();
@@ -410,91 +529,61 @@ public class GameController implements Initializable {
      * Met à jour les informations des joueurs
      */
     private void updatePlayerInfo() {
-        Player player1 = game.getPlayer1();
-        Player player2 = game.getPlayer2();
-        
-        // Vérifier si le joueur 2 est un bot
-        boolean isPlayer2Bot = player2 instanceof com.example.bomberman.models.entities.BotPlayer;
+        GameSnapshot.PlayerState player1 = snapshot.getPlayer1();
+        GameSnapshot.PlayerState player2 = snapshot.getPlayer2();
+        if (player1 == null || player2 == null) return;
         
         // Mettre à jour les informations du HUD
-        if (player1BombsLabel != null) {
-            player1BombsLabel.setText(String.valueOf(player1.getMaxBombs() - player1.getCurrentBombs()));
-        }
-        
-        if (player2BombsLabel != null) {
-            player2BombsLabel.setText(String.valueOf(player2.getMaxBombs() - player2.getCurrentBombs()));
-        }
-        
-        if (player1LivesLabel != null) {
-            player1LivesLabel.setText(String.valueOf(player1.getLives()));
-        }
-        
-        if (player2LivesLabel != null) {
-            player2LivesLabel.setText(String.valueOf(player2.getLives()));
-        }
-        
+        player1Bombs.set(player1.getMaxBombs() - player1.getCurrentBombs());
+        player2Bombs.set(player2.getMaxBombs() - player2.getCurrentBombs());
+        player1Lives.set(player1.getLives());
+        player2Lives.set(player2.getLives());
+
         // Mettre à jour les informations détaillées du panneau latéral
-        if (player1InfoLabel != null) {
-            player1InfoLabel.setText("Joueur 1 - Score: " + game.getPlayer1Score());
-        }
-        
-        if (player2InfoLabel != null) {
-            if (isPlayer2Bot) {
-                // Si c'est un bot, afficher le niveau de difficulté
-                com.example.bomberman.models.entities.BotPlayer botPlayer = 
-                    (com.example.bomberman.models.entities.BotPlayer) player2;
-                String difficultyText = "";
-                switch (botPlayer.getDifficultyLevel()) {
-                    case 1: difficultyText = "Facile"; break;
-                    case 2: difficultyText = "Moyen"; break;
-                    case 3: difficultyText = "Difficile"; break;
-                }
-                player2InfoLabel.setText("BOT (" + difficultyText + ") - Score: " + game.getPlayer2Score());
-            } else {
-                player2InfoLabel.setText("Joueur 2 - Score: " + game.getPlayer2Score());
-            }
-        }
-        
+        player1Score.set(snapshot.getPlayer1Score());
+        player2Score.set(snapshot.getPlayer2Score());
+
         // Mettre à jour les informations détaillées du panneau latéral si présent
         if (gameInfoPanel != null && gameInfoPanel.isVisible()) {
-            if (player1BombsInfoLabel != null) {
-                player1BombsInfoLabel.setText(String.valueOf(player1.getMaxBombs()));
-            }
-            
-            if (player2BombsInfoLabel != null) {
-                player2BombsInfoLabel.setText(String.valueOf(player2.getMaxBombs()));
-            }
-            
-            if (player1RangeLabel != null) {
-                player1RangeLabel.setText(String.valueOf(player1.getBombRange()));
-            }
-            
-            if (player2RangeLabel != null) {
-                player2RangeLabel.setText(String.valueOf(player2.getBombRange()));
-            }
-            
-            if (player1SpeedLabel != null) {
-                player1SpeedLabel.setText("1");
-            }
-            
-            if (player2SpeedLabel != null) {
-                player2SpeedLabel.setText("1");
+            player1MaxBombs.set(player1.getMaxBombs());
+            player2MaxBombs.set(player2.getMaxBombs());
+            player1Range.set(player1.getBombRange());
+            player2Range.set(player2.getBombRange());
+            player1Speed.set(1);
+            player2Speed.set(1);
+        }
+    }
+
+    /**
+     * Texte du score du joueur 2 (avec le niveau de difficulté si c'est un bot)
+     */
+    private String formatPlayer2Score(int score) {
+        Player livePlayer2 = game.getPlayer2();
+        if (livePlayer2 instanceof com.example.bomberman.models.entities.BotPlayer) {
+            com.example.bomberman.models.entities.BotPlayer botPlayer =
+                (com.example.bomberman.models.entities.BotPlayer) livePlayer2;
+            String difficultyText = "";
+            switch (botPlayer.getDifficultyLevel()) {
+                case 1: difficultyText = "Facile"; break;
+                case 2: difficultyText = "Moyen"; break;
+                case 3: difficultyText = "Difficile"; break;
+                case GameSetup.EXPERT: difficultyText = "Expert"; break;
             }
+            return "BOT (" + difficultyText + ") - Score: " + score;
         }
+        return "Joueur 2 - Score: " + score;
     }
 
     /**
      * Met à jour le statut du jeu
      */
     private void updateGameStatus() {
-        if (gameStatusLabel != null) {
-            if (isPaused) {
-                gameStatusLabel.setText("Jeu en pause");
-            } else if (gameRunning) {
-                gameStatusLabel.setText("En cours");
-            } else {
-                gameStatusLabel.setText("Partie terminée");
-            }
+        if (isPaused) {
+            gameStatus.set(STATUS_PAUSED);
+        } else if (gameRunning) {
+            gameStatus.set(STATUS_RUNNING);
+        } else {
+            gameStatus.set(STATUS_OVER);
         }
         
         // Mettre à jour le timer
@@ -505,10 +594,7 @@ public class GameController implements Initializable {
      * Met à jour le chronomètre du jeu
      */
     private void updateGameTimer() {
-        if (timerLabel != null) {
-            long gameTimeSeconds = getGameTime() / 1000;
-            timerLabel.setText(formatTime(gameTimeSeconds));
-        }
+        elapsedSeconds.set((int) (getGameTime() / 1000));
     }
 
     /**
@@ -534,9 +620,9 @@ public class GameController implements Initializable {
     /**
      * Formate le temps en minutes:secondes
      */
-    private String formatTime(long timeInSeconds) {
-        long minutes = timeInSeconds / 60;
-        long seconds = timeInSeconds % 60;
+    private String formatTime(int timeInSeconds) {
+        int minutes = timeInSeconds / 60;
+        int seconds = timeInSeconds % 60;
         return String.format("%d:%02d", minutes, seconds);
     }
 
@@ -555,13 +641,16 @@ public class GameController implements Initializable {
      * Charge un niveau personnalisé depuis un fichier
      */
     public void loadCustomLevel(String levelPath) {
-        game = new Game();
-        game.loadLevel(levelPath);
+        // La partie n'est visible de la simulation qu'une fois le niveau chargé
+        Game customGame = new Game();
+        customGame.loadLevel(levelPath);
+        game = customGame;
+        hud.invalidateAll();
         
-        // Adapter la taille du canvas
+        // Canvas de taille fixe, quelle que soit la taille du plateau
         if (gameCanvas != null) {
-            gameCanvas.setWidth(Math.max(game.getBoard().getWidth() * TILE_SIZE, 800));
-            gameCanvas.setHeight(Math.max(game.getBoard().getHeight() * TILE_SIZE, 600));
+            gameCanvas.setWidth(VIEWPORT_WIDTH);
+            gameCanvas.setHeight(VIEWPORT_HEIGHT);
         }
         
         gameRunning = true;
@@ -603,23 +692,15 @@ public class GameController implements Initializable {
 
     /**
      * Active le mode bot pour le joueur 2 avec un niveau de difficulté spécifique
-     * @param difficultyLevel Niveau de difficulté (1-3)
+     * @param difficultyLevel Niveau de difficulté (1-3, ou GameSetup.EXPERT)
      */
     public void enableBotMode(int difficultyLevel) {
         if (game != null) {
-            game.enableBotMode(difficultyLevel);
+            withSimulationStopped(() -> game.enableBotMode(difficultyLevel));
             System.out.println("Mode bot activé pour le joueur 2 (difficulté: " + difficultyLevel + ")");
             
-            // Mettre à jour l'interface avec l'information du bot
-            if (player2InfoLabel != null) {
-                String difficultyText = "";
-                switch (difficultyLevel) {
-                    case 1: difficultyText = "Facile"; break;
-                    case 2: difficultyText = "Moyen"; break;
-                    case 3: difficultyText = "Difficile"; break;
-                }
-                player2InfoLabel.setText("BOT (" + difficultyText + ") - Score: 0");
-            }
+            // Le label du joueur 2 affiche désormais le niveau du bot
+            player2Score.invalidate();
         }
     }
 
@@ -784,6 +865,7 @@ public class GameController implements Initializable {
             totalPauseTime = 0;
             isPaused = false;
             
+            hud.invalidateAll();
             updateUI();
             
             // Vérifier si le joueur 2 est un bot
@@ -0,0 +1,82 @@
+package com.example.bomberman.controller;
+
+import com.example.bomberman.service.PerformanceMetrics;
+import javafx.scene.control.Label;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * Modèle du HUD : chaque valeur affichée est associée à un label
+ * Le texte du label n'est reconstruit et modifié que si la valeur change,
+ * ce qui évite de relancer le CSS et la mise en page de la scène à chaque frame
+ */
+public class HudModel {
+
+    /**
+     * Valeur entière affichée dans un label
+     */
+    public static final class Field {
+        private final Label label;
+        private final IntFunction<String> format;
+        private int value;
+        private boolean valid;
+
+        private Field(Label label, IntFunction<String> format) {
+            this.label = label;
+            this.format = format;
+        }
+
+        /**
+         * Met à jour la valeur ; le label n'est modifié que si elle a changé
+         */
+        public void set(int newValue) {
+            if (valid && newValue == value) return;
+
+            value = newValue;
+            valid = true;
+            if (label != null) {
+                label.setText(format.apply(newValue));
+                PerformanceMetrics.getInstance().recordHudUpdate();
+            }
+        }
+
+        /**
+         * Force la mise à jour du label à la prochaine valeur (le format a changé)
+         */
+        public void invalidate() {
+            valid = false;
+        }
+    }
+
+    private final List<Field> fields = new ArrayList<>();
+
+    /**
+     * Associe une valeur à un label, affichée telle quelle
+     * @param label Le label (peut être null si absent de la vue)
+     */
+    public Field bind(Label label) {
+        return bind(label, String::valueOf);
+    }
+
+    /**
+     * Associe une valeur à un label
+     * @param label Le label (peut être null si absent de la vue)
+     * @param format Texte affiché pour une valeur
+     */
+    public Field bind(Label label, IntFunction<String> format) {
+        Field field = new Field(label, format);
+        fields.add(field);
+        return field;
+    }
+
+    /**
+     * Force la mise à jour de tous les labels (nouvelle partie, changement de mode)
+     */
+    public void invalidateAll() {
+        for (Field field : fields) {
+            field.invalidate();
+        }
+    }
+}
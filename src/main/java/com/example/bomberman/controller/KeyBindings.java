@@ -0,0 +1,78 @@
+package com.example.bomberman.controller;
+
+import com.example.bomberman.models.world.InputQueue;
+import com.example.bomberman.models.world.PlayerCommand;
+import javafx.scene.input.KeyCode;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Association fixe entre les touches du clavier et les commandes des joueurs
+ */
+public final class KeyBindings {
+
+    /**
+     * Commande d'un joueur associée à une touche
+     */
+    private static final class Binding {
+        private final int playerId;
+        private final PlayerCommand command;
+
+        Binding(int playerId, PlayerCommand command) {
+            this.playerId = playerId;
+            this.command = command;
+        }
+    }
+
+    private static final Map<KeyCode, Binding> BINDINGS = new EnumMap<>(KeyCode.class);
+
+    static {
+        // Joueur 1: ZQSD + A (bombe) + E (capacité spéciale)
+        bind(KeyCode.Z, 1, PlayerCommand.UP);
+        bind(KeyCode.S, 1, PlayerCommand.DOWN);
+        bind(KeyCode.Q, 1, PlayerCommand.LEFT);
+        bind(KeyCode.D, 1, PlayerCommand.RIGHT);
+        bind(KeyCode.A, 1, PlayerCommand.BOMB);
+        bind(KeyCode.E, 1, PlayerCommand.SPECIAL);
+
+        // Joueur 2: Flèches + Espace (bombe) + Ctrl (capacité spéciale)
+        bind(KeyCode.UP, 2, PlayerCommand.UP);
+        bind(KeyCode.DOWN, 2, PlayerCommand.DOWN);
+        bind(KeyCode.LEFT, 2, PlayerCommand.LEFT);
+        bind(KeyCode.RIGHT, 2, PlayerCommand.RIGHT);
+        bind(KeyCode.SPACE, 2, PlayerCommand.BOMB);
+        bind(KeyCode.CONTROL, 2, PlayerCommand.SPECIAL);
+    }
+
+    private KeyBindings() {
+    }
+
+    private static void bind(KeyCode key, int playerId, PlayerCommand command) {
+        BINDINGS.put(key, new Binding(playerId, command));
+    }
+
+    /**
+     * Transmet une touche pressée à la simulation
+     * @return true si la touche correspond à une commande
+     */
+    public static boolean keyPressed(InputQueue inputs, KeyCode key) {
+        Binding binding = BINDINGS.get(key);
+        if (binding == null) return false;
+
+        inputs.offer(binding.playerId, binding.command, true);
+        return true;
+    }
+
+    /**
+     * Transmet une touche relâchée à la simulation
+     * @return true si la touche correspond à une commande
+     */
+    public static boolean keyReleased(InputQueue inputs, KeyCode key) {
+        Binding binding = BINDINGS.get(key);
+        if (binding == null) return false;
+
+        inputs.offer(binding.playerId, binding.command, false);
+        return true;
+    }
+}
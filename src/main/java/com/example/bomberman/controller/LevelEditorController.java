@@ -1,6 +1,8 @@
 package com.example.bomberman.controller;
 
 import com.example.bomberman.Main;
+import com.example.bomberman.models.world.LevelData;
+import com.example.bomberman.models.world.LevelFormat;
 import com.example.bomberman.service.SoundManager;
 import com.example.bomberman.service.UserPreferences;
 import com.example.bomberman.utils.FileDialogManager;
@@ -707,54 +709,42 @@ public class LevelEditorController implements Initializable {
             
             if (filePath == null) return;
             
-            File selectedFile = new File(filePath);
+            // Lire le niveau (format texte ou binaire)
+            LevelData level = LevelFormat.read(filePath);
             
-            try (BufferedReader reader = new BufferedReader(new FileReader(selectedFile))) {
-                // Lire les dimensions
-                String[] dimensions = reader.readLine().split(",");
-                levelWidth = Integer.parseInt(dimensions[0]);
-                levelHeight = Integer.parseInt(dimensions[1]);
-                
-                // Vérifier les dimensions
-                if (levelWidth < MIN_SIZE || levelWidth > MAX_SIZE || levelHeight < MIN_SIZE || levelHeight > MAX_SIZE) {
-                    showAlert("Erreur", "Les dimensions du niveau sont invalides.", Alert.AlertType.ERROR);
-                    return;
-                }
-                
-                // Mettre à jour les spinners
-                widthSpinner.getValueFactory().setValue(levelWidth);
-                heightSpinner.getValueFactory().setValue(levelHeight);
-                
-                // Lire les positions des joueurs
-                String[] players = reader.readLine().split(",");
-                player1X = Integer.parseInt(players[0]);
-                player1Y = Integer.parseInt(players[1]);
-                player2X = Integer.parseInt(players[2]);
-                player2Y = Integer.parseInt(players[3]);
-                
-                // Lire les données du niveau
-                levelData = new int[levelHeight][levelWidth];
-                for (int y = 0; y < levelHeight; y++) {
-                    String[] row = reader.readLine().split(",");
-                    for (int x = 0; x < levelWidth; x++) {
-                        levelData[y][x] = Integer.parseInt(row[x]);
-                    }
-                }
-                
-                // Redimensionner le canvas
-                editorCanvas.setWidth(levelWidth * TILE_SIZE);
-                editorCanvas.setHeight(levelHeight * TILE_SIZE);
-                
-                // Mettre à jour le canvas
-                updateDimensionsLabel();
-                render();
-                
-                // Sauvegarder l'état actuel pour la récupération automatique
-                saveTemporaryState();
-                
-                // Appliquer le CSS spécifique à l'éditeur de niveau
-                Platform.runLater(this::applyLevelEditorCSS);
+            levelWidth = level.getWidth();
+            levelHeight = level.getHeight();
+            
+            // Vérifier les dimensions
+            if (levelWidth < MIN_SIZE || levelWidth > MAX_SIZE || levelHeight < MIN_SIZE || levelHeight > MAX_SIZE) {
+                showAlert("Erreur", "Les dimensions du niveau sont invalides.", Alert.AlertType.ERROR);
+                return;
             }
+            
+            // Mettre à jour les spinners
+            widthSpinner.getValueFactory().setValue(levelWidth);
+            heightSpinner.getValueFactory().setValue(levelHeight);
+            
+            // Positions des joueurs et données du niveau
+            player1X = level.getPlayer1X();
+            player1Y = level.getPlayer1Y();
+            player2X = level.getPlayer2X();
+            player2Y = level.getPlayer2Y();
+            levelData = level.toArray();
+            
+            // Redimensionner le canvas
+            editorCanvas.setWidth(levelWidth * TILE_SIZE);
+            editorCanvas.setHeight(levelHeight * TILE_SIZE);
+            
+            // Mettre à jour le canvas
+            updateDimensionsLabel();
+            render();
+            
+            // Sauvegarder l'état actuel pour la récupération automatique
+            saveTemporaryState();
+            
+            // Appliquer le CSS spécifique à l'éditeur de niveau
+            Platform.runLater(this::applyLevelEditorCSS);
         } catch (Exception e) {
             e.printStackTrace();
             showAlert("Erreur", "Impossible de charger le niveau: " + e.getMessage(), Alert.AlertType.ERROR);
@@ -770,21 +760,9 @@ public class LevelEditorController implements Initializable {
         String filePath = FileDialogManager.showSaveDialog(stage);
 
         if (filePath != null) {
-            try (PrintWriter writer = new PrintWriter(new FileWriter(filePath))) {
-                // Écrire les dimensions
-                writer.println(levelWidth + "," + levelHeight);
-
-                // Écrire les positions des joueurs
-                writer.println(player1X + "," + player1Y + "," + player2X + "," + player2Y);
-
-                // Écrire les données du niveau
-                for (int y = 0; y < levelHeight; y++) {
-                    for (int x = 0; x < levelWidth; x++) {
-                        writer.print(levelData[y][x]);
-                        if (x < levelWidth - 1) writer.print(",");
-                    }
-                    writer.println();
-                }
+            try {
+                // Format texte ou binaire selon l'extension choisie
+                LevelFormat.write(toLevel(), filePath);
 
                 System.out.println("Niveau sauvegardé avec succès !");
 
@@ -813,22 +791,7 @@ public class LevelEditorController implements Initializable {
             tempFile.deleteOnExit();
 
             // Sauvegarder le niveau dans le fichier temporaire
-            try (PrintWriter writer = new PrintWriter(new FileWriter(tempFile))) {
-                // Écrire les dimensions
-                writer.println(levelWidth + "," + levelHeight);
-
-                // Écrire les positions des joueurs
-                writer.println(player1X + "," + player1Y + "," + player2X + "," + player2Y);
-
-                // Écrire les données du niveau
-                for (int y = 0; y < levelHeight; y++) {
-                    for (int x = 0; x < levelWidth; x++) {
-                        writer.print(levelData[y][x]);
-                        if (x < levelWidth - 1) writer.print(",");
-                    }
-                    writer.println();
-                }
-            }
+            LevelFormat.write(toLevel(), tempFile.getAbsolutePath());
 
             // Charger la scène de jeu avec le niveau créé
             URL gameViewUrl = getClass().getResource("/com/example/bomberman/view/game-view.fxml");
@@ -1131,6 +1094,13 @@ public class LevelEditorController implements Initializable {
         saveTemporaryState();
     }
 
+    /**
+     * Retourne le niveau en cours d'édition, pour l'écrire dans un fichier
+     */
+    private LevelData toLevel() {
+        return LevelData.fromArray(levelData, player1X, player1Y, player2X, player2Y);
+    }
+
     /**
      * Sauvegarder l'état temporaire de l'éditeur
      */
@@ -1145,22 +1115,7 @@ public class LevelEditorController implements Initializable {
             // Créer ou écraser le fichier temporaire
             tempSaveFile = new File(TEMP_SAVE_PATH);
             
-            try (PrintWriter writer = new PrintWriter(new FileWriter(tempSaveFile))) {
-                // Écrire les dimensions
-                writer.println(levelWidth + "," + levelHeight);
-
-                // Écrire les positions des joueurs
-                writer.println(player1X + "," + player1Y + "," + player2X + "," + player2Y);
-
-                // Écrire les données du niveau
-                for (int y = 0; y < levelHeight; y++) {
-                    for (int x = 0; x < levelWidth; x++) {
-                        writer.print(levelData[y][x]);
-                        if (x < levelWidth - 1) writer.print(",");
-                    }
-                    writer.println();
-                }
-            }
+            LevelFormat.write(toLevel(), tempSaveFile.getPath());
             
             System.out.println("État temporaire sauvegardé dans " + TEMP_SAVE_PATH);
         } catch (IOException e) {
@@ -1178,31 +1133,24 @@ public class LevelEditorController implements Initializable {
             return false;
         }
         
-        try (BufferedReader reader = new BufferedReader(new FileReader(tempFile))) {
-            // Lire les dimensions
-            String[] dimensions = reader.readLine().split(",");
-            levelWidth = Integer.parseInt(dimensions[0]);
-            levelHeight = Integer.parseInt(dimensions[1]);
-
-            // Lire les positions des joueurs
-            String[] players = reader.readLine().split(",");
-            player1X = Integer.parseInt(players[0]);
-            player1Y = Integer.parseInt(players[1]);
-            player2X = Integer.parseInt(players[2]);
-            player2Y = Integer.parseInt(players[3]);
+        try {
+            // Lire le niveau (format texte ou binaire)
+            LevelData level = LevelFormat.read(tempFile.getPath());
+            levelWidth = level.getWidth();
+            levelHeight = level.getHeight();
+
+            // Positions des joueurs
+            player1X = level.getPlayer1X();
+            player1Y = level.getPlayer1Y();
+            player2X = level.getPlayer2X();
+            player2Y = level.getPlayer2Y();
 
             // Mettre à jour les spinners
             widthSpinner.getValueFactory().setValue(levelWidth);
             heightSpinner.getValueFactory().setValue(levelHeight);
 
-            // Lire les données du niveau
-            levelData = new int[levelHeight][levelWidth];
-            for (int y = 0; y < levelHeight; y++) {
-                String[] row = reader.readLine().split(",");
-                for (int x = 0; x < levelWidth; x++) {
-                    levelData[y][x] = Integer.parseInt(row[x]);
-                }
-            }
+            // Données du niveau
+            levelData = level.toArray();
 
             // Redimensionner le canvas
             editorCanvas.setWidth(levelWidth * TILE_SIZE);
@@ -1,9 +1,12 @@
 package com.example.bomberman.controller;
 
-import com.example.bomberman.models.entities.Bomb;
 import com.example.bomberman.models.world.Game;
-import com.example.bomberman.models.world.GameBoard;
-import com.example.bomberman.models.entities.Player;
+import com.example.bomberman.models.world.GameSnapshot;
+import com.example.bomberman.models.world.InputQueue;
+import com.example.bomberman.models.world.SnapshotBuffer;
+import com.example.bomberman.render.GameRenderer;
+import com.example.bomberman.service.PerformanceMetrics;
+import com.example.bomberman.utils.SimulationThread;
 import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.fxml.FXML;
@@ -29,7 +32,14 @@ public class MainController implements Initializable {
     // Modèle du jeu
     private Game game;
     private GraphicsContext gc;
+    private GameRenderer renderer;
     private AnimationTimer gameLoop;
+    private SimulationThread simulation;
+
+    // Échanges avec le thread de simulation
+    private final SnapshotBuffer snapshots = new SnapshotBuffer();
+    private GameSnapshot snapshot;
+    private final InputQueue inputs = new InputQueue();
 
     // Gestion des entrées
     private Set<KeyCode> pressedKeys;
@@ -37,6 +47,7 @@ public class MainController implements Initializable {
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
         gc = gameCanvas.getGraphicsContext2D();
+        renderer = new GameRenderer();
         pressedKeys = new HashSet<>();
         game = new Game();
 
@@ -55,7 +66,7 @@ public class MainController implements Initializable {
     @FXML
     private void handleKeyPressed(KeyEvent event) {
         pressedKeys.add(event.getCode());
-        game.handleKeyPressed(event.getCode());
+        KeyBindings.keyPressed(inputs, event.getCode());
     }
 
     /**
@@ -64,17 +75,19 @@ public class MainController implements Initializable {
     @FXML
     private void handleKeyReleased(KeyEvent event) {
         pressedKeys.remove(event.getCode());
-        game.handleKeyReleased(event.getCode());
+        KeyBindings.keyReleased(inputs, event.getCode());
     }
 
     /**
      * Démarre la boucle de jeu
      */
     private void startGameLoop() {
+        simulation = new SimulationThread(this::update);
+        simulation.start();
         gameLoop = new AnimationTimer() {
             @Override
             public void handle(long now) {
-                update();
+                PerformanceMetrics.getInstance().recordFrame();
                 render();
             }
         };
@@ -82,47 +95,29 @@ public class MainController implements Initializable {
     }
 
     /**
-     * Met à jour la logique du jeu
+     * Met à jour la logique du jeu (thread de simulation)
      */
     private void update() {
+        inputs.drainTo(game);
         game.update();
+        snapshots.publish(game);
     }
 
     /**
      * Dessine le jeu (méthode render déplacée ici)
      */
     private void render() {
-        // Effacer le canvas
-        gc.clearRect(0, 0, gameCanvas.getWidth(), gameCanvas.getHeight());
-
-        // Récupérer les éléments du jeu
-        GameBoard board = game.getBoard();
-        Player player1 = game.getPlayer1();
-        Player player2 = game.getPlayer2();
-
-        // Taille des cases
-        int tileSize = 40;
+        snapshot = snapshots.acquire();
+        if (snapshot == null) return;
 
-        // Dessiner le plateau
-        if (board != null) {
-            board.render(gc, tileSize);
-        }
-
-        // Dessiner les joueurs
-        if (player1 != null && player1.isAlive()) {
-            player1.render(gc, tileSize);
-        }
-        if (player2 != null && player2.isAlive()) {
-            player2.render(gc, tileSize);
-        }
-
-        // Dessiner les bombes
-        for (Bomb bomb : game.getBombs()) {
-            bomb.render(gc, tileSize);
-        }
+        // Dessiner le plateau, les joueurs et les bombes (seules les cases modifiées sont redessinées)
+        renderer.render(gc, snapshot, 40, snapshot.getAlpha(System.nanoTime()));
 
         // Afficher les informations des joueurs
         renderUI();
+
+        // Redessiner les cases sous le texte à la prochaine frame
+        renderer.invalidateArea(0, 0, gameCanvas.getWidth(), 64);
     }
 
     /**
@@ -132,22 +127,18 @@ public class MainController implements Initializable {
         gc.setFill(Color.WHITE);
         gc.setFont(javafx.scene.text.Font.font("Arial", 14));
 
-        if (game.getPlayer1() != null) {
-            String player1Info = "Joueur 1 (ZQSD + A) - Vies: " + game.getPlayer1().getLives();
+        if (snapshot.getPlayer1() != null) {
+            String player1Info = "Joueur 1 (ZQSD + A) - Vies: " + snapshot.getPlayer1().getLives();
             gc.fillText(player1Info, 10, 20);
         }
 
-        if (game.getPlayer2() != null) {
-            String player2Info = "Joueur 2 (Flèches + Espace) - Vies: " + game.getPlayer2().getLives();
+        if (snapshot.getPlayer2() != null) {
+            String player2Info = "Joueur 2 (Flèches + Espace) - Vies: " + snapshot.getPlayer2().getLives();
             gc.fillText(player2Info, 10, 40);
         }
 
-        // Afficher le score si disponible
-        try {
-            String scoreInfo = "Score J1: " + game.getPlayer1Score() + " | Score J2: " + game.getPlayer2Score();
-            gc.fillText(scoreInfo, 10, 60);
-        } catch (Exception e) {
-            // Si les méthodes de score n'existent pas encore, on ignore
-        }
+        // Afficher le score
+        String scoreInfo = "Score J1: " + snapshot.getPlayer1Score() + " | Score J2: " + snapshot.getPlayer2Score();
+        gc.fillText(scoreInfo, 10, 60);
     }
 }
\ No newline at end of file
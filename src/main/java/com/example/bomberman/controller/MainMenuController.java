@@ -1,5 +1,6 @@
 package com.example.bomberman.controller;
 
+import com.example.bomberman.models.world.GameSetup;
 import com.example.bomberman.service.SoundManager;
 import com.example.bomberman.service.UserPreferences;
 import javafx.animation.FadeTransition;
@@ -149,9 +150,10 @@ public class MainMenuController implements Initializable {
             ButtonType easyButton = new ButtonType("Facile");
             ButtonType mediumButton = new ButtonType("Moyen");
             ButtonType hardButton = new ButtonType("Difficile");
+            ButtonType expertButton = new ButtonType("Expert");
             ButtonType cancelButton = new ButtonType("Annuler", ButtonType.CANCEL.getButtonData());
             
-            difficultyDialog.getButtonTypes().setAll(easyButton, mediumButton, hardButton, cancelButton);
+            difficultyDialog.getButtonTypes().setAll(easyButton, mediumButton, hardButton, expertButton, cancelButton);
             
             // Styliser la boîte de dialogue
             DialogPane dialogPane = difficultyDialog.getDialogPane();
@@ -182,6 +184,12 @@ public class MainMenuController implements Initializable {
                 hardBtn.setStyle("-fx-background-color: #F44336; -fx-text-fill: white; -fx-font-weight: bold;");
             }
             
+            Button expertBtn = (Button) dialogPane.lookupButton(expertButton);
+            if (expertBtn != null) {
+                expertBtn.getStyleClass().add("expert-button");
+                expertBtn.setStyle("-fx-background-color: #7B1FA2; -fx-text-fill: white; -fx-font-weight: bold;");
+            }
+            
             Button cancelBtn = (Button) dialogPane.lookupButton(cancelButton);
             if (cancelBtn != null) {
                 cancelBtn.getStyleClass().add("cancel-button");
@@ -207,6 +215,8 @@ public class MainMenuController implements Initializable {
                     difficultyLevel = 1;
                 } else if (result.get() == hardButton) {
                     difficultyLevel = 3;
+                } else if (result.get() == expertButton) {
+                    difficultyLevel = GameSetup.EXPERT;
                 }
                 
                 soundManager.stopBackgroundMusic();
@@ -232,7 +242,8 @@ public class MainMenuController implements Initializable {
                 stage.setScene(gameScene);
                 stage.setTitle("Super Bomberman - VS Bot (" + 
                                (difficultyLevel == 1 ? "Facile" : 
-                                difficultyLevel == 3 ? "Difficile" : "Moyen") + ")");
+                                difficultyLevel == 3 ? "Difficile" :
+                                difficultyLevel == GameSetup.EXPERT ? "Expert" : "Moyen") + ")");
             }
         } catch (IOException e) {
             e.printStackTrace();
@@ -1,86 +1,70 @@
 package com.example.bomberman.models.entities;
 
-import com.example.bomberman.service.SoundManager;
-import com.example.bomberman.utils.SpriteManager;
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
-import javafx.scene.paint.Color;
+import com.example.bomberman.models.world.GameSounds;
+import com.example.bomberman.models.world.SimulationContext;
 
 public class Bomb extends StaticEntity {
     private int playerId;
-    private static final long EXPLOSION_DELAY = 3000; // 3 secondes
+    public static final long EXPLOSION_DELAY = 3000; // 3 secondes
     private int range;
     private boolean exploded;
-    private SpriteManager spriteManager;
-    private Image bombSprite;
 
-    public Bomb(int x, int y, int playerId) {
-        super(x, y);
+    public Bomb(SimulationContext context, int x, int y, int playerId) {
+        super(context, x, y);
         this.playerId = playerId;
         this.range = 1; // Portée par défaut = 1
         this.exploded = false;
-        this.spriteManager = SpriteManager.getInstance();
-        this.bombSprite = spriteManager.loadSprite("bomb");
     }
 
     /**
      * Constructeur avec portée spécifiée
      */
-    public Bomb(int x, int y, int playerId, int range) {
-        super(x, y);
+    public Bomb(SimulationContext context, int x, int y, int playerId, int range) {
+        super(context, x, y);
+        this.playerId = playerId;
+        this.range = range;
+        this.exploded = false;
+    }
+
+    /**
+     * Réutilise la bombe pour un nouveau placement
+     * @param x Position X
+     * @param y Position Y
+     * @param playerId Identifiant du joueur qui pose la bombe
+     * @param range Portée de l'explosion
+     */
+    public void reinitialize(int x, int y, int playerId, int range) {
+        reinitialize(x, y);
         this.playerId = playerId;
         this.range = range;
         this.exploded = false;
-        this.spriteManager = SpriteManager.getInstance();
-        this.bombSprite = spriteManager.loadSprite("bomb");
     }
 
     @Override
     public void update() {
         if (!exploded && getElapsedTime() >= EXPLOSION_DELAY) {
-            exploded = true;
-            SoundManager.getInstance().playSound("bomb_explode");
-            deactivate();
+            detonate();
         }
     }
 
-    @Override
-    public void render(GraphicsContext gc, int tileSize) {
-        if (!isActive || exploded) return;
-
-        // Calculer la pulsation basée sur le temps restant
-        long timeLeft = EXPLOSION_DELAY - getElapsedTime();
-        double pulsation = Math.sin(getElapsedTime() / 200.0);
-
-        // Taille qui pulse
-        int size = (int)(tileSize * 0.8 + pulsation * 3);
-        int offset = (tileSize - size) / 2;
-
-        // Dessiner le sprite si disponible, sinon utiliser le rendu par défaut
-        if (bombSprite != null) {
-            gc.drawImage(bombSprite, x * tileSize + offset, y * tileSize + offset, size, size);
-        } else {
-            // Couleur qui change selon le temps restant
-            if (timeLeft > 2000) {
-                gc.setFill(Color.BLACK);
-            } else if (timeLeft > 1000) {
-                gc.setFill(Color.DARKRED);
-            } else {
-                gc.setFill(Color.RED);
-            }
+    /**
+     * Fait exploser la bombe immédiatement
+     * Appelé par l'échéancier du jeu quand la mèche arrive à son terme
+     */
+    public void detonate() {
+        if (exploded) return;
 
-            gc.fillOval(x * tileSize + offset, y * tileSize + offset, size, size);
+        exploded = true;
+        GameSounds.play("bomb_explode");
+        deactivate();
+    }
 
-            // Mèche de la bombe
-            gc.setStroke(Color.ORANGE);
-            gc.setLineWidth(3);
-            gc.strokeLine(
-                    x * tileSize + tileSize/2,
-                    y * tileSize + offset,
-                    x * tileSize + tileSize/2,
-                    y * tileSize + offset - 10
-            );
-        }
+    /**
+     * Retourne le temps restant avant l'explosion
+     * @return Temps restant en millisecondes
+     */
+    public long getTimeLeft() {
+        return Math.max(0, EXPLOSION_DELAY - getElapsedTime());
     }
 
     /**
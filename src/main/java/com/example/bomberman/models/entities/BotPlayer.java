@@ -1,9 +1,13 @@
 package com.example.bomberman.models.entities;
 
+import com.example.bomberman.models.world.DangerMap;
+import com.example.bomberman.models.world.FlowField;
 import com.example.bomberman.models.world.GameBoard;
-import javafx.scene.paint.Color;
+import com.example.bomberman.models.world.GameSetup;
+import com.example.bomberman.models.world.PathPlanner;
+import com.example.bomberman.models.world.SimulationContext;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Classe représentant un joueur contrôlé par l'IA
@@ -13,7 +17,7 @@ public class BotPlayer extends Player {
     private static final int[] DX = {0, 1, 0, -1, 0}; // Directions possibles en X (0 = ne pas bouger)
     private static final int[] DY = {-1, 0, 1, 0, 0}; // Directions possibles en Y (0 = ne pas bouger)
     
-    private Random random;
+    private SplittableRandom random;
     private int moveCounter;
     private int directionChangeInterval;
     private int currentDirection;
@@ -22,18 +26,22 @@ public class BotPlayer extends Player {
     private boolean shouldPlaceBomb;
     private int bombCooldown;
     private int difficultyLevel;
+    // Le bot suit un chemin vers le joueur (recalculé à chaque déplacement)
+    private boolean chasing;
+    // Recherche de chemins (tableaux réutilisés d'une recherche à l'autre)
+    private final PathPlanner planner = new PathPlanner();
     
     /**
      * Constructeur
+     * @param context Contexte de simulation
      * @param x Position X initiale
      * @param y Position Y initiale
-     * @param color Couleur du bot
      * @param playerId ID du joueur (1 ou 2)
-     * @param difficultyLevel Niveau de difficulté (1-3)
+     * @param difficultyLevel Niveau de difficulté (1-3, ou GameSetup.EXPERT)
      */
-    public BotPlayer(int x, int y, Color color, int playerId, int difficultyLevel) {
-        super(x, y, color, playerId);
-        this.random = new Random();
+    public BotPlayer(SimulationContext context, int x, int y, int playerId, int difficultyLevel) {
+        super(context, x, y, playerId);
+        this.random = context.split();
         this.moveCounter = 0;
         this.directionChangeInterval = 10;
         this.currentDirection = random.nextInt(4);
@@ -41,7 +49,7 @@ public class BotPlayer extends Player {
         this.targetY = -1;
         this.shouldPlaceBomb = false;
         this.bombCooldown = 0;
-        this.difficultyLevel = Math.max(1, Math.min(3, difficultyLevel));
+        this.difficultyLevel = Math.max(1, Math.min(GameSetup.EXPERT, difficultyLevel));
     }
     
     /**
@@ -61,35 +69,47 @@ public class BotPlayer extends Player {
      * Met à jour le comportement du bot en fonction du plateau et du joueur cible
      * @param board Le plateau de jeu
      * @param targetPlayer Le joueur cible
+     * @param danger La carte des dangers du plateau
+     * @param field Le champ de distances vers le joueur cible
      */
-    public void updateBot(GameBoard board, Player targetPlayer) {
+    public void updateBot(GameBoard board, Player targetPlayer, DangerMap danger, FlowField field) {
+        // Priorité à la survie : quitter une case que touchera une explosion
+        if (danger.isThreatened(getX(), getY())) {
+            shouldPlaceBomb = false;
+            currentDirection = planner.findNearestSafe(board, danger, getX(), getY(), MOVE_TICKS)
+                    ? firstStepDirection() : 4;
+            return;
+        }
+
         moveCounter++;
         
         // Décider si on change de direction
         if (moveCounter >= directionChangeInterval) {
             moveCounter = 0;
+            chasing = false;
             
             // Décider de la stratégie en fonction de la difficulté
             switch (difficultyLevel) {
                 case 1:
                     // Facile: Mouvements aléatoires avec quelques bombes
-                    randomMovement();
+                    randomMovement(board, danger);
                     shouldPlaceBomb = random.nextInt(20) == 0; // 5% de chance de poser une bombe
                     break;
                     
                 case 2:
                     // Moyen: Se déplace vers le joueur ou aléatoirement
                     if (random.nextInt(3) == 0) { // 33% de chance de se déplacer aléatoirement
-                        randomMovement();
+                        randomMovement(board, danger);
                     } else {
-                        moveTowardsPlayer(targetPlayer);
+                        chasing = true;
                     }
                     shouldPlaceBomb = random.nextInt(10) == 0; // 10% de chance de poser une bombe
                     break;
                     
                 case 3:
-                    // Difficile: Traque le joueur et pose des bombes intelligemment
-                    moveTowardsPlayer(targetPlayer);
+                case GameSetup.EXPERT:
+                    // Difficile et expert: Traque le joueur et pose des bombes intelligemment
+                    chasing = true;
                     
                     // Poser une bombe si on est près du joueur
                     int distanceToPlayer = Math.abs(getX() - targetPlayer.getX()) + Math.abs(getY() - targetPlayer.getY());
@@ -107,6 +127,21 @@ public class BotPlayer extends Player {
                 shouldPlaceBomb = false;
             }
         }
+
+        // Le chemin n'est recalculé qu'au moment de faire un pas
+        if (chasing && canMove()) {
+            moveTowardsPlayer(board, targetPlayer, danger, field);
+        }
+
+        // Ne jamais entrer de soi-même dans une zone de souffle
+        if (currentDirection < 4 && danger.isThreatened(getX() + DX[currentDirection], getY() + DY[currentDirection])) {
+            currentDirection = 4;
+        }
+
+        // Ne poser une bombe que si une case sûre reste accessible avant qu'elle explose
+        if (shouldPlaceBomb && !planner.canEscape(board, danger, getX(), getY(), getBombRange(), MOVE_TICKS)) {
+            shouldPlaceBomb = false;
+        }
     }
     
     /**
@@ -115,14 +150,16 @@ public class BotPlayer extends Player {
      * @return true si le déplacement a été effectué
      */
     public boolean moveInCurrentDirection(GameBoard board) {
-        int dx = DX[currentDirection];
-        int dy = DY[currentDirection];
-        
-        boolean moved = move(dx, dy, board);
+        // Attendre la fin du délai de déplacement sans changer de direction
+        if (currentDirection == 4 || !canMove()) {
+            return false;
+        }
+
+        boolean moved = move(DX[currentDirection], DY[currentDirection], board);
         
-        // Si on ne peut pas se déplacer, changer de direction
-        if (!moved && currentDirection < 4) { // Ne pas changer si on a choisi de ne pas bouger
-            currentDirection = random.nextInt(4);
+        // Si la case est bloquée, prendre une direction libre
+        if (!moved) {
+            currentDirection = randomOpenDirection(board, null);
             moveCounter = directionChangeInterval - 2; // Pour rechanger rapidement
         }
         
@@ -131,21 +168,57 @@ public class BotPlayer extends Player {
     
     /**
      * Stratégie de mouvement aléatoire
+     * @param board Le plateau de jeu
+     * @param danger La carte des dangers du plateau
      */
-    private void randomMovement() {
+    private void randomMovement(GameBoard board, DangerMap danger) {
         // 80% de chance de se déplacer, 20% de rester immobile
         if (random.nextInt(5) == 0) {
             currentDirection = 4; // Ne pas bouger
         } else {
-            currentDirection = random.nextInt(4); // Direction aléatoire
+            currentDirection = randomOpenDirection(board, danger);
+        }
+    }
+
+    /**
+     * Tire une direction vers une case libre (et sans danger si la carte est fournie)
+     * @return La direction, ou 4 (ne pas bouger) si toutes les cases voisines sont bloquées
+     */
+    private int randomOpenDirection(GameBoard board, DangerMap danger) {
+        int start = random.nextInt(4);
+        for (int i = 0; i < 4; i++) {
+            int direction = (start + i) % 4;
+            int x = getX() + DX[direction];
+            int y = getY() + DY[direction];
+            if (board.isValidMove(x, y) && (danger == null || !danger.isThreatened(x, y))) {
+                return direction;
+            }
         }
+        return 4;
     }
     
     /**
      * Stratégie pour se déplacer vers le joueur
+     * Suit le champ de distances partagé ; si le pas proposé mène dans une zone de souffle, cherche
+     * le plus court chemin sans danger ; si le joueur est hors d'atteinte (murs destructibles),
+     * se rapproche de lui à vol d'oiseau
+     * @param board Le plateau de jeu
      * @param targetPlayer Le joueur cible
+     * @param danger La carte des dangers du plateau
+     * @param field Le champ de distances vers le joueur cible
      */
-    private void moveTowardsPlayer(Player targetPlayer) {
+    private void moveTowardsPlayer(GameBoard board, Player targetPlayer, DangerMap danger, FlowField field) {
+        int direction = field.directionFrom(getX(), getY());
+        if (direction >= 0 && !danger.isThreatened(getX() + DX[direction], getY() + DY[direction])) {
+            currentDirection = direction;
+            return;
+        }
+
+        if (planner.findPath(board, danger, getX(), getY(), targetPlayer.getX(), targetPlayer.getY(), MOVE_TICKS)) {
+            currentDirection = planner.getPathLength() > 0 ? firstStepDirection() : 4;
+            return;
+        }
+
         int dx = targetPlayer.getX() - getX();
         int dy = targetPlayer.getY() - getY();
         
@@ -166,10 +239,24 @@ public class BotPlayer extends Player {
             }
         }
         
-        // Parfois, faire un mouvement aléatoire pour éviter de rester bloqué
-        if (random.nextInt(10) == 0) { // 10% de chance
-            currentDirection = random.nextInt(4);
+        // Direction bloquée : en prendre une libre plutôt que de buter contre le mur
+        if (currentDirection < 4 && !board.isValidMove(getX() + DX[currentDirection], getY() + DY[currentDirection])) {
+            currentDirection = randomOpenDirection(board, danger);
+        }
+    }
+
+    /**
+     * Retourne la direction du premier pas du dernier chemin trouvé
+     */
+    private int firstStepDirection() {
+        if (planner.getPathLength() == 0) return 4;
+
+        int dx = planner.getPathX(0) - getX();
+        int dy = planner.getPathY(0) - getY();
+        for (int direction = 0; direction < 4; direction++) {
+            if (DX[direction] == dx && DY[direction] == dy) return direction;
         }
+        return 4;
     }
     
     /**
@@ -209,10 +296,10 @@ public class BotPlayer extends Player {
     
     /**
      * Définit le niveau de difficulté du bot
-     * @param level Niveau de difficulté (1-3)
+     * @param level Niveau de difficulté (1-3, ou GameSetup.EXPERT)
      */
     public void setDifficultyLevel(int level) {
-        this.difficultyLevel = Math.max(1, Math.min(3, level));
+        this.difficultyLevel = Math.max(1, Math.min(GameSetup.EXPERT, level));
     }
     
     /**
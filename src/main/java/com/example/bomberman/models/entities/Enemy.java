@@ -1,10 +1,9 @@
 package com.example.bomberman.models.entities;
 
 import com.example.bomberman.models.world.GameBoard;
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.paint.Color;
+import com.example.bomberman.models.world.SimulationContext;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * Classe représentant un ennemi dans le jeu
@@ -16,18 +15,17 @@ public class Enemy extends MovableEntity {
     private int currentDirection;
     private int movementCounter;
     private int maxMovesInDirection;
-    private Color color;
-    private Random random;
+    private SplittableRandom random;
     
     /**
      * Constructeur
+     * @param context Contexte de simulation
      * @param x Position X initiale
      * @param y Position Y initiale
      */
-    public Enemy(int x, int y) {
-        super(x, y);
-        this.color = Color.PURPLE;
-        this.random = new Random();
+    public Enemy(SimulationContext context, int x, int y) {
+        super(context, x, y);
+        this.random = context.split();
         this.currentDirection = random.nextInt(4);
         this.movementCounter = 0;
         this.maxMovesInDirection = 5 + random.nextInt(5); // Entre 5 et 10 mouvements dans la même direction
@@ -78,56 +76,6 @@ public class Enemy extends MovableEntity {
         return moved;
     }
     
-    @Override
-    public void render(GraphicsContext gc, int tileSize) {
-        // Corps de l'ennemi
-        gc.setFill(color);
-        int size = (int)(tileSize * 0.8);
-        int offset = (tileSize - size) / 2;
-        gc.fillOval(x * tileSize + offset, y * tileSize + offset, size, size);
-        
-        // Contour
-        gc.setStroke(Color.BLACK);
-        gc.setLineWidth(2);
-        gc.strokeOval(x * tileSize + offset, y * tileSize + offset, size, size);
-        
-        // Yeux
-        gc.setFill(Color.WHITE);
-        int eyeSize = Math.max(3, tileSize / 8);
-        gc.fillOval(x * tileSize + tileSize/3 - eyeSize/2, y * tileSize + tileSize/3, eyeSize, eyeSize);
-        gc.fillOval(x * tileSize + 2*tileSize/3 - eyeSize/2, y * tileSize + tileSize/3, eyeSize, eyeSize);
-        
-        // Pupilles (qui regardent dans la direction du mouvement)
-        gc.setFill(Color.BLACK);
-        int pupilSize = Math.max(1, eyeSize / 2);
-        int pupilOffsetX = 0;
-        int pupilOffsetY = 0;
-        
-        switch (currentDirection) {
-            case 0: // Haut
-                pupilOffsetY = -1;
-                break;
-            case 1: // Droite
-                pupilOffsetX = 1;
-                break;
-            case 2: // Bas
-                pupilOffsetY = 1;
-                break;
-            case 3: // Gauche
-                pupilOffsetX = -1;
-                break;
-        }
-        
-        gc.fillOval(
-                x * tileSize + tileSize/3 - pupilSize/2 + pupilOffsetX, 
-                y * tileSize + tileSize/3 + pupilOffsetY, 
-                pupilSize, pupilSize);
-        gc.fillOval(
-                x * tileSize + 2*tileSize/3 - pupilSize/2 + pupilOffsetX, 
-                y * tileSize + tileSize/3 + pupilOffsetY, 
-                pupilSize, pupilSize);
-    }
-    
     /**
      * Vérifie si l'ennemi est en collision avec un joueur
      * @param player Le joueur à vérifier
@@ -137,12 +85,11 @@ public class Enemy extends MovableEntity {
         return this.x == player.getX() && this.y == player.getY();
     }
     
-    // Getters et setters
-    public Color getColor() {
-        return color;
-    }
-    
-    public void setColor(Color color) {
-        this.color = color;
+    /**
+     * Retourne la direction actuelle (0 = haut, 1 = droite, 2 = bas, 3 = gauche)
+     * @return La direction actuelle
+     */
+    public int getCurrentDirection() {
+        return currentDirection;
     }
-} 
\ No newline at end of file
+}
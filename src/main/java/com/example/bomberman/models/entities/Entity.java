@@ -1,18 +1,22 @@
 package com.example.bomberman.models.entities;
 
-import javafx.scene.canvas.GraphicsContext;
+import com.example.bomberman.models.world.SimulationContext;
 
 /**
  * Classe abstraite représentant une entité de base dans le jeu
  * Toutes les entités du jeu (joueurs, bombes, power-ups) héritent de cette classe
  */
 public abstract class Entity implements GameElement {
+    // Contexte de simulation (horloge et générateur aléatoire)
+    protected final SimulationContext context;
+
     // Position sur la grille
     protected int x;
     protected int y;
     
     // Constructeur
-    public Entity(int x, int y) {
+    public Entity(SimulationContext context, int x, int y) {
+        this.context = context;
         this.x = x;
         this.y = y;
     }
@@ -23,15 +27,11 @@ public abstract class Entity implements GameElement {
     @Override
     public abstract void update();
     
-    /**
-     * Dessine l'entité sur le canvas
-     * @param gc Contexte graphique
-     * @param tileSize Taille d'une case en pixels
-     */
-    @Override
-    public abstract void render(GraphicsContext gc, int tileSize);
-    
     // Getters et setters
+    public SimulationContext getContext() {
+        return context;
+    }
+    
     public int getX() {
         return x;
     }
@@ -1,20 +1,12 @@
 package com.example.bomberman.models.entities;
 
-import javafx.scene.canvas.GraphicsContext;
-
 /**
  * Interface définissant les méthodes communes à tous les éléments du jeu
+ * Le rendu est assuré par les adaptateurs du paquet render, la simulation reste indépendante de JavaFX
  */
 public interface GameElement {
     /**
      * Met à jour l'état de l'élément
      */
     void update();
-    
-    /**
-     * Dessine l'élément sur le canvas
-     * @param gc Contexte graphique
-     * @param tileSize Taille d'une case en pixels
-     */
-    void render(GraphicsContext gc, int tileSize);
-} 
\ No newline at end of file
+} 
@@ -1,23 +1,36 @@
 package com.example.bomberman.models.entities;
 
 import com.example.bomberman.models.world.GameBoard;
+import com.example.bomberman.models.world.SimulationContext;
 
 /**
  * Classe abstraite représentant une entité qui peut se déplacer
  * Exemples: joueurs, ennemis
  */
 public abstract class MovableEntity extends Entity {
+    // Délai fixe entre deux déplacements
+    protected static final long MOVE_DELAY = 200;
+    // Durée de l'animation d'un déplacement d'une case, en ticks
+    public static final long MOVE_TICKS = SimulationContext.millisToTicks(MOVE_DELAY);
+
     // Temps du dernier déplacement
     protected long lastMoveTime;
+
+    // Case de départ et tick du dernier déplacement (pour interpoler l'affichage)
+    protected int previousX, previousY;
+    protected long moveTick;
     
     /**
      * Constructeur
+     * @param context Contexte de simulation
      * @param x Position X initiale
      * @param y Position Y initiale
      */
-    public MovableEntity(int x, int y) {
-        super(x, y);
-        this.lastMoveTime = 0;
+    public MovableEntity(SimulationContext context, int x, int y) {
+        super(context, x, y);
+        this.lastMoveTime = context.currentTimeMillis() - MOVE_DELAY; // Peut se déplacer immédiatement
+        this.previousX = x;
+        this.previousY = y;
     }
     
     /**
@@ -26,7 +39,7 @@ public abstract class MovableEntity extends Entity {
      */
     public boolean canMove() {
         // Système de déplacement simple avec délai fixe
-        return System.currentTimeMillis() - lastMoveTime >= 200; // 200ms de délai fixe entre les déplacements
+        return context.currentTimeMillis() - lastMoveTime >= MOVE_DELAY;
     }
     
     /**
@@ -46,9 +59,15 @@ public abstract class MovableEntity extends Entity {
         
         // Vérifier si la case est libre
         if (board.isValidMove(newX, newY)) {
+            // Les deux cases devront être redessinées
+            board.markDirty(x, y);
+            board.markDirty(newX, newY);
+            previousX = x;
+            previousY = y;
+            moveTick = context.getTick();
             x = newX;
             y = newY;
-            lastMoveTime = System.currentTimeMillis();
+            lastMoveTime = context.currentTimeMillis();
             return true;
         }
         
@@ -63,5 +82,46 @@ public abstract class MovableEntity extends Entity {
     public void forcePosition(int newX, int newY) {
         this.x = newX;
         this.y = newY;
+        snapPosition();
+    }
+
+    @Override
+    public void setX(int x) {
+        super.setX(x);
+        previousX = x;
     }
+
+    @Override
+    public void setY(int y) {
+        super.setY(y);
+        previousY = y;
+    }
+
+    /**
+     * Termine l'animation de déplacement (téléportation : l'entité apparaît directement sur sa case)
+     */
+    protected void snapPosition() {
+        previousX = x;
+        previousY = y;
+    }
+
+    /**
+     * Position affichée entre la case de départ et la case actuelle
+     * @param from Coordonnée de la case de départ
+     * @param to Coordonnée de la case actuelle
+     * @param moveTick Tick du déplacement
+     * @param renderTick Instant affiché, en ticks (fraction de tick comprise)
+     * @return La coordonnée interpolée, en cases
+     */
+    public static double interpolate(int from, int to, long moveTick, double renderTick) {
+        double progress = (renderTick - moveTick) / MOVE_TICKS;
+        if (progress >= 1) return to;
+        if (progress <= 0) return from;
+        return from + (to - from) * progress;
+    }
+
+    // Getters
+    public int getPreviousX() { return previousX; }
+    public int getPreviousY() { return previousY; }
+    public long getMoveTick() { return moveTick; }
 } 
\ No newline at end of file
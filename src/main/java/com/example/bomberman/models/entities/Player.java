@@ -1,17 +1,13 @@
 package com.example.bomberman.models.entities;
 
 import com.example.bomberman.models.world.GameBoard;
-import com.example.bomberman.service.SoundManager;
-import com.example.bomberman.utils.SpriteManager;
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
-import javafx.scene.paint.Color;
+import com.example.bomberman.models.world.GameSounds;
+import com.example.bomberman.models.world.SimulationContext;
 
 /**
  * Classe représentant un joueur dans le jeu Bomberman
  */
 public class Player extends MovableEntity {
-    private Color color;
     private int playerId;
     private int lives;
     private int maxBombs;
@@ -29,7 +25,7 @@ public class Player extends MovableEntity {
     // Invincibilité temporaire après avoir pris des dégâts
     private boolean isInvincible;
     private long invincibilityEndTime;
-    private static final long INVINCIBILITY_DURATION = 2000; // 2 secondes
+    public static final long INVINCIBILITY_DURATION = 2000; // 2 secondes
     
     // Animation
     private double animationOffset;
@@ -40,20 +36,14 @@ public class Player extends MovableEntity {
     private int spawnY;
     
     // Direction
-    private enum Direction { UP, DOWN, LEFT, RIGHT }
+    public enum Direction { UP, DOWN, LEFT, RIGHT }
     private Direction facing = Direction.DOWN;
-    
-    // Sprites
-    private Image frontSprite;
-    private Image backSprite;
-    private Image leftSprite;
 
     /**
      * Constructeur du joueur
      */
-    public Player(int x, int y, Color color, int playerId) {
-        super(x, y);
-        this.color = color;
+    public Player(SimulationContext context, int x, int y, int playerId) {
+        super(context, x, y);
         this.playerId = playerId;
         this.lives = 3;
         this.maxBombs = 1;
@@ -63,188 +53,34 @@ public class Player extends MovableEntity {
         this.skullEndTime = 0;
         this.lastMoveTime = 0;
         this.animationOffset = 0;
-        this.lastAnimationTime = System.currentTimeMillis();
+        this.lastAnimationTime = context.currentTimeMillis();
         this.spawnX = x;
         this.spawnY = y;
         this.isInvincible = false;
         this.invincibilityEndTime = 0;
-        
-        // Charger les sprites du joueur
-        loadSprites();
-    }
-    
-    /**
-     * Charge les sprites du joueur
-     */
-    private void loadSprites() {
-        SpriteManager spriteManager = SpriteManager.getInstance();
-        String prefix = (playerId == 1) ? "p1_" : "p2_";
-        
-        frontSprite = spriteManager.loadSprite(prefix + "front");
-        backSprite = spriteManager.loadSprite(prefix + "back");
-        leftSprite = spriteManager.loadSprite(prefix + "left");
-        
-        // Si les sprites ne sont pas trouvés, on utilisera le rendu par défaut
-        if (frontSprite == null) {
-            System.out.println("Sprite " + prefix + "front non trouvé, utilisation du rendu par défaut");
-        }
     }
 
     @Override
     public void update() {
+        long currentTime = context.currentTimeMillis();
+
         // Gérer l'effet du skull
-        if (hasSkull && System.currentTimeMillis() > skullEndTime) {
+        if (hasSkull && currentTime > skullEndTime) {
             hasSkull = false;
         }
         
         // Gérer l'invincibilité
-        if (isInvincible && System.currentTimeMillis() > invincibilityEndTime) {
+        if (isInvincible && currentTime > invincibilityEndTime) {
             isInvincible = false;
         }
 
         // Animation simple
-        long currentTime = System.currentTimeMillis();
         if (currentTime - lastAnimationTime > 100) {
             animationOffset = (animationOffset + 0.2) % (2 * Math.PI);
             lastAnimationTime = currentTime;
         }
     }
 
-    @Override
-    public void render(GraphicsContext gc, int tileSize) {
-        if (!isAlive()) return;
-
-        int cellX = x * tileSize;
-        int cellY = y * tileSize;
-        
-        // Effet de clignotement si invincible
-        if (isInvincible && (System.currentTimeMillis() / 200) % 2 == 0) {
-            return;
-        }
-        
-        // Utiliser les sprites si disponibles
-        Image spriteToUse = null;
-        
-        switch (facing) {
-            case UP:
-                spriteToUse = backSprite;
-                break;
-            case DOWN:
-                spriteToUse = frontSprite;
-                break;
-            case LEFT:
-                spriteToUse = leftSprite;
-                break;
-            case RIGHT:
-                // Utiliser le sprite gauche mais inversé horizontalement
-                spriteToUse = leftSprite;
-                break;
-        }
-        
-        if (spriteToUse != null) {
-            // Si c'est la direction droite, on inverse horizontalement
-            if (facing == Direction.RIGHT) {
-                // Sauvegarder l'état actuel
-                gc.save();
-                
-                // Configurer la transformation pour inverser horizontalement
-                gc.translate(cellX + tileSize, cellY);
-                gc.scale(-1, 1);
-                
-                // Dessiner le sprite inversé
-                gc.drawImage(spriteToUse, 0, 0, tileSize, tileSize);
-                
-                // Restaurer l'état
-                gc.restore();
-            } else {
-                // Dessiner normalement
-                gc.drawImage(spriteToUse, cellX, cellY, tileSize, tileSize);
-            }
-            
-            // Effet visuel si le joueur a un skull
-            if (hasSkull) {
-                gc.setGlobalAlpha(0.5);
-                gc.setFill(Color.PURPLE);
-                gc.fillOval(cellX, cellY, tileSize, tileSize);
-                gc.setGlobalAlpha(1.0);
-            }
-        } else {
-            // Rendu par défaut si les sprites ne sont pas disponibles
-            renderDefaultPlayer(gc, tileSize);
-        }
-
-        // Indicateurs de power-ups (petits icônes)
-        renderPowerUpIndicators(gc, tileSize);
-    }
-    
-    /**
-     * Rendu par défaut si les sprites ne sont pas disponibles
-     */
-    private void renderDefaultPlayer(GraphicsContext gc, int tileSize) {
-        // Animation de pulsation si le joueur a un skull
-        double pulseEffect = hasSkull ? Math.sin(animationOffset * 3) * 0.1 : 0;
-        int effectiveSize = (int)((tileSize - 10) * (1 + pulseEffect));
-        int offset = (tileSize - effectiveSize) / 2;
-
-        // Couleur avec effet si nécessaire
-        Color renderColor = hasSkull ? Color.PURPLE.interpolate(color, 0.5) : color;
-
-        // Corps du joueur (plus stylé)
-        gc.setFill(renderColor);
-        gc.fillOval(x * tileSize + offset, y * tileSize + offset, effectiveSize, effectiveSize);
-
-        // Contour plus épais
-        gc.setStroke(Color.BLACK);
-        gc.setLineWidth(3);
-        gc.strokeOval(x * tileSize + offset, y * tileSize + offset, effectiveSize, effectiveSize);
-
-        // Yeux
-        gc.setFill(Color.WHITE);
-        int eyeSize = Math.max(3, tileSize / 8);
-        gc.fillOval(x * tileSize + tileSize/3 - eyeSize/2, y * tileSize + tileSize/3, eyeSize, eyeSize);
-        gc.fillOval(x * tileSize + 2*tileSize/3 - eyeSize/2, y * tileSize + tileSize/3, eyeSize, eyeSize);
-
-        // Pupilles
-        gc.setFill(Color.BLACK);
-        int pupilSize = Math.max(1, eyeSize / 2);
-        gc.fillOval(x * tileSize + tileSize/3 - pupilSize/2, y * tileSize + tileSize/3 + 1, pupilSize, pupilSize);
-        gc.fillOval(x * tileSize + 2*tileSize/3 - pupilSize/2, y * tileSize + tileSize/3 + 1, pupilSize, pupilSize);
-
-        // Numéro du joueur
-        gc.setFill(Color.WHITE);
-        gc.setFont(javafx.scene.text.Font.font("Arial", javafx.scene.text.FontWeight.BOLD, 12));
-        gc.fillText(String.valueOf(playerId), x * tileSize + tileSize/2 - 3, y * tileSize + 2*tileSize/3);
-    }
-
-    /**
-     * Affiche les indicateurs de power-ups actifs
-     */
-    private void renderPowerUpIndicators(GraphicsContext gc, int tileSize) {
-        int indicatorY = y * tileSize - 5;
-        int indicatorSize = 8;
-        int spacing = 10;
-        int startX = x * tileSize;
-
-        int indicatorIndex = 0;
-
-        // Indicateur de portée élevée
-        if (bombRange > 1) {
-            gc.setFill(Color.RED);
-            gc.fillRect(startX + indicatorIndex * spacing, indicatorY, indicatorSize, indicatorSize);
-            gc.setFill(Color.WHITE);
-            gc.fillText("F", startX + indicatorIndex * spacing + 1, indicatorY + 7);
-            indicatorIndex++;
-        }
-
-        // Indicateur de bombes multiples
-        if (maxBombs > 1) {
-            gc.setFill(Color.ORANGE);
-            gc.fillRect(startX + indicatorIndex * spacing, indicatorY, indicatorSize, indicatorSize);
-            gc.setFill(Color.BLACK);
-            gc.fillText("B", startX + indicatorIndex * spacing + 1, indicatorY + 7);
-        }
-    }
-
     /**
      * Définit la nouvelle position du joueur
      * @param newX Nouvelle position X
@@ -288,11 +124,11 @@ public class Player extends MovableEntity {
     public void applyPowerUp(PowerUp.Type powerUpType) {
         switch (powerUpType) {
             case BOMB_UP:
-                SoundManager.getInstance().playSound("powerup_collect");
+                GameSounds.play("powerup_collect");
                 maxBombs++;
                 break;
             case FIRE_UP:
-                SoundManager.getInstance().playSound("powerup_collect");
+                GameSounds.play("powerup_collect");
                 bombRange++;
                 break;
             case SKULL:
@@ -308,14 +144,14 @@ public class Player extends MovableEntity {
      */
     private void applySkullEffect() {
         hasSkull = true;
-        skullEndTime = System.currentTimeMillis() + 10000; // 10 secondes
+        skullEndTime = context.currentTimeMillis() + 10000; // 10 secondes
         
         // Effet de la malédiction: perte de tous les power-ups
         maxBombs = 1;    // Retour à 1 bombe
         bombRange = 1;   // Retour à portée 1
         
         // Jouer un son spécial pour la malédiction
-        SoundManager.getInstance().playSound("skull_effect");
+        GameSounds.play("skull_effect");
     }
 
     /**
@@ -331,7 +167,7 @@ public class Player extends MovableEntity {
     public void placeBomb() {
         if (canPlaceBomb()) {
             currentBombs++;
-            SoundManager.getInstance().playSound("bomb_place");
+            GameSounds.play("bomb_place");
         }
     }
 
@@ -353,7 +189,7 @@ public class Player extends MovableEntity {
         lives--;
         if (lives <= 0) {
             lives = 0;
-            SoundManager.getInstance().playSound("bomb_explode");
+            GameSounds.play("bomb_explode");
         } else {
             // Téléporter à la position de spawn et rendre invincible
             respawn();
@@ -366,8 +202,9 @@ public class Player extends MovableEntity {
     private void respawn() {
         this.x = spawnX;
         this.y = spawnY;
+        snapPosition();
         this.isInvincible = true;
-        this.invincibilityEndTime = System.currentTimeMillis() + INVINCIBILITY_DURATION;
+        this.invincibilityEndTime = context.currentTimeMillis() + INVINCIBILITY_DURATION;
     }
 
     /**
@@ -390,6 +227,7 @@ public class Player extends MovableEntity {
     public void reset(int startX, int startY) {
         this.x = startX;
         this.y = startY;
+        snapPosition();
         this.spawnX = startX;
         this.spawnY = startY;
         this.lives = 3;
@@ -416,9 +254,6 @@ public class Player extends MovableEntity {
     }
 
     // Getters et Setters
-    public Color getColor() { return color; }
-    public void setColor(Color color) { this.color = color; }
-    
     public int getPlayerId() { return playerId; }
     public int getLives() { return lives; }
     public void setLives(int lives) { this.lives = lives; }
@@ -430,6 +265,13 @@ public class Player extends MovableEntity {
     public void setMaxBombs(int maxBombs) { this.maxBombs = Math.max(1, maxBombs); }
     
     public int getCurrentBombs() { return currentBombs; }
+
+    public int getSpawnX() { return spawnX; }
+    public int getSpawnY() { return spawnY; }
     
     public boolean hasSkull() { return hasSkull; }
+    
+    public Direction getFacing() { return facing; }
+    
+    public double getAnimationOffset() { return animationOffset; }
 }
\ No newline at end of file
@@ -1,5 +1,7 @@
 package com.example.bomberman.models.entities;
 
+import com.example.bomberman.models.world.SimulationContext;
+
 /**
  * Classe abstraite représentant une entité statique qui ne se déplace pas
  * Exemples: power-ups, bombes
@@ -9,18 +11,42 @@ public abstract class StaticEntity extends Entity {
     protected boolean isActive;
     // Temps de création de l'entité
     protected long creationTime;
+    // Numéro d'utilisation, incrémenté à chaque réutilisation depuis une réserve
+    protected int generation;
     
     /**
      * Constructeur
+     * @param context Contexte de simulation
      * @param x Position X
      * @param y Position Y
      */
-    public StaticEntity(int x, int y) {
-        super(x, y);
+    public StaticEntity(SimulationContext context, int x, int y) {
+        super(context, x, y);
         this.isActive = true;
-        this.creationTime = System.currentTimeMillis();
+        this.creationTime = context.currentTimeMillis();
     }
     
+    /**
+     * Réinitialise l'entité pour une nouvelle utilisation (réserve d'entités)
+     * Les événements planifiés pour l'utilisation précédente sont reconnus grâce au numéro d'utilisation
+     * @param x Nouvelle position X
+     * @param y Nouvelle position Y
+     */
+    protected void reinitialize(int x, int y) {
+        this.x = x;
+        this.y = y;
+        this.isActive = true;
+        this.creationTime = context.currentTimeMillis();
+        this.generation++;
+    }
+
+    /**
+     * Retourne le numéro d'utilisation de l'entité
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
     /**
      * Désactive l'entité (collectée ou détruite)
      */
@@ -38,9 +64,9 @@ public abstract class StaticEntity extends Entity {
     
     /**
      * Retourne le temps écoulé depuis la création de l'entité
-     * @return Temps écoulé en millisecondes
+     * @return Temps écoulé en millisecondes (temps de simulation)
      */
-    protected long getElapsedTime() {
-        return System.currentTimeMillis() - creationTime;
+    public long getElapsedTime() {
+        return context.currentTimeMillis() - creationTime;
     }
 } 
\ No newline at end of file
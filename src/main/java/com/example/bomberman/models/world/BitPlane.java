@@ -0,0 +1,219 @@
+package com.example.bomberman.models.world;
+
+import java.util.Arrays;
+
+/**
+ * Plan de bits d'une grille : un bit par case, rangé ligne par ligne dans un tableau de long
+ * La case (x, y) correspond au bit d'indice y * largeur + x
+ * Les opérations ensemblistes traitent 64 cases à la fois
+ */
+public class BitPlane {
+    private final int width;
+    private final int height;
+    private final int size;
+    private final long[] words;
+
+    /**
+     * Constructeur d'un plan vide
+     * @param width Largeur de la grille
+     * @param height Hauteur de la grille
+     */
+    public BitPlane(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.size = width * height;
+        this.words = new long[(size + 63) >>> 6];
+    }
+
+    // Accès case par case
+
+    public boolean get(int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    public void set(int index) {
+        words[index >>> 6] |= 1L << index;
+    }
+
+    public void clear(int index) {
+        words[index >>> 6] &= ~(1L << index);
+    }
+
+    public void set(int index, boolean value) {
+        if (value) {
+            set(index);
+        } else {
+            clear(index);
+        }
+    }
+
+    public boolean get(int x, int y) {
+        return get(y * width + x);
+    }
+
+    // Opérations sur le plan entier
+
+    /**
+     * Vide le plan
+     */
+    public void clearAll() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * Remplit le plan (toutes les cases de la grille)
+     */
+    public void setAll() {
+        Arrays.fill(words, -1L);
+        trimLastWord();
+    }
+
+    /**
+     * Copie un autre plan de mêmes dimensions
+     */
+    public void copyFrom(BitPlane other) {
+        System.arraycopy(other.words, 0, words, 0, words.length);
+    }
+
+    public void or(BitPlane other) {
+        for (int i = 0; i < words.length; i++) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    public void and(BitPlane other) {
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= other.words[i];
+        }
+    }
+
+    public void andNot(BitPlane other) {
+        for (int i = 0; i < words.length; i++) {
+            words[i] &= ~other.words[i];
+        }
+    }
+
+    /**
+     * Décale le plan d'une case dans une direction et écrit le résultat dans out
+     * Les cases qui sortiraient de la grille sont perdues (pas de débordement d'une ligne à l'autre)
+     * @param dx Décalage horizontal (-1, 0 ou 1)
+     * @param dy Décalage vertical (-1, 0 ou 1)
+     * @param out Plan de destination (peut être différent de this uniquement)
+     */
+    public void shiftInto(int dx, int dy, BitPlane out) {
+        int shift = dy * width + dx;
+        if (shift > 0) {
+            shiftUp(shift, out);
+        } else if (shift < 0) {
+            shiftDown(-shift, out);
+        } else {
+            out.copyFrom(this);
+            return;
+        }
+
+        // Un décalage horizontal fait passer le bord d'une ligne sur la ligne voisine
+        if (dx == 1) {
+            out.clearColumn(0);
+        } else if (dx == -1) {
+            out.clearColumn(width - 1);
+        }
+        out.trimLastWord();
+    }
+
+    /**
+     * Décale vers les indices croissants
+     */
+    private void shiftUp(int n, BitPlane out) {
+        int wordShift = n >>> 6;
+        int bitShift = n & 63;
+        for (int i = words.length - 1; i >= 0; i--) {
+            int src = i - wordShift;
+            long value = 0;
+            if (src >= 0) {
+                value = words[src] << bitShift;
+                if (bitShift != 0 && src - 1 >= 0) {
+                    value |= words[src - 1] >>> (64 - bitShift);
+                }
+            }
+            out.words[i] = value;
+        }
+    }
+
+    /**
+     * Décale vers les indices décroissants
+     */
+    private void shiftDown(int n, BitPlane out) {
+        int wordShift = n >>> 6;
+        int bitShift = n & 63;
+        for (int i = 0; i < words.length; i++) {
+            int src = i + wordShift;
+            long value = 0;
+            if (src < words.length) {
+                value = words[src] >>> bitShift;
+                if (bitShift != 0 && src + 1 < words.length) {
+                    value |= words[src + 1] << (64 - bitShift);
+                }
+            }
+            out.words[i] = value;
+        }
+    }
+
+    /**
+     * Efface une colonne de la grille
+     */
+    private void clearColumn(int x) {
+        for (int index = x; index < size; index += width) {
+            clear(index);
+        }
+    }
+
+    /**
+     * Efface les bits au-delà de la dernière case
+     */
+    private void trimLastWord() {
+        int used = size & 63;
+        if (used != 0) {
+            words[words.length - 1] &= (1L << used) - 1;
+        }
+    }
+
+    /**
+     * Indique si le plan est vide
+     */
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Retourne le nombre de cases marquées
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Retourne l'indice de la prochaine case marquée à partir de from, ou -1
+     */
+    public int nextSetBit(int from) {
+        if (from >= size) return -1;
+        int w = from >>> 6;
+        long word = words[w] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++w == words.length) return -1;
+            word = words[w];
+        }
+    }
+
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+}
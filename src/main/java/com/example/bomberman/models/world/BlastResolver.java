@@ -0,0 +1,223 @@
+package com.example.bomberman.models.world;
+
+import com.example.bomberman.models.entities.Bomb;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Résolution des explosions d'un tick en une seule passe
+ * Toutes les explosions dues pendant le tick (centres, branches et bombes touchées en chaîne)
+ * sont appliquées sur un masque commun : chaque case n'est mise à jour qu'une fois par passe
+ */
+public class BlastResolver {
+
+    /**
+     * Réactions du jeu aux événements de la résolution
+     */
+    public interface Listener {
+        /**
+         * Une bombe touchée par une explosion saute en chaîne
+         */
+        void onChainDetonation(Bomb bomb);
+
+        /**
+         * Un mur destructible a été détruit par une bombe
+         */
+        void onWallDestroyed(Bomb bomb);
+
+        /**
+         * Les branches d'une bombe ont été propagées : la résolution ne garde plus de référence vers elle
+         */
+        void onArmsResolved(Bomb bomb);
+    }
+
+    private static final int[] DX = {1, -1, 0, 0};
+    private static final int[] DY = {0, 0, 1, -1};
+
+    private final GameBoard board;
+    private final int width;
+    private final int height;
+
+    // Bombes posées, indexées par case
+    private final Bomb[] bombAt;
+
+    // Masque de la passe : une case est marquée avec le numéro de la passe qui l'a touchée
+    private final int[] blastStamp;
+    // Cases qui arrêtent les branches pendant la passe (mur détruit, bombe déclenchée)
+    private final int[] stopStamp;
+    private int pass;
+
+    // Explosions en attente de résolution
+    private final List<Bomb> pendingCenters = new ArrayList<>();
+    private final List<Bomb> pendingArms = new ArrayList<>();
+    private final Deque<Bomb> chain = new ArrayDeque<>();
+
+    /**
+     * Constructeur
+     * @param board Plateau sur lequel les explosions sont appliquées
+     */
+    public BlastResolver(GameBoard board) {
+        this.board = board;
+        this.width = board.getWidth();
+        this.height = board.getHeight();
+        this.bombAt = new Bomb[width * height];
+        this.blastStamp = new int[width * height];
+        this.stopStamp = new int[width * height];
+    }
+
+    /**
+     * Enregistre une bombe posée pour qu'elle puisse être déclenchée en chaîne
+     */
+    public void registerBomb(Bomb bomb) {
+        if (contains(bomb.getX(), bomb.getY())) {
+            bombAt[index(bomb.getX(), bomb.getY())] = bomb;
+        }
+    }
+
+    /**
+     * Programme l'explosion du centre d'une bombe pour la prochaine résolution
+     */
+    public void queueCenter(Bomb bomb) {
+        unregister(bomb);
+        pendingCenters.add(bomb);
+    }
+
+    /**
+     * Programme la propagation des branches d'une bombe pour la prochaine résolution
+     */
+    public void queueArms(Bomb bomb) {
+        pendingArms.add(bomb);
+    }
+
+    /**
+     * Indique si des explosions attendent d'être résolues
+     */
+    public boolean hasPending() {
+        return !pendingCenters.isEmpty() || !pendingArms.isEmpty();
+    }
+
+    /**
+     * Applique toutes les explosions en attente en une passe
+     * Une bombe touchée par une branche saute immédiatement, centre et branches compris
+     * @param listener Réactions du jeu (bombes en chaîne, murs détruits)
+     * @return Le nombre de cases touchées
+     */
+    public int resolve(Listener listener) {
+        if (!hasPending()) return 0;
+
+        pass++;
+        int affected = 0;
+
+        for (Bomb bomb : pendingCenters) {
+            affected += blastCenter(bomb);
+        }
+        pendingCenters.clear();
+
+        for (Bomb bomb : pendingArms) {
+            affected += blastArms(bomb, listener);
+            listener.onArmsResolved(bomb);
+        }
+        pendingArms.clear();
+
+        while (!chain.isEmpty()) {
+            Bomb bomb = chain.pollFirst();
+            listener.onChainDetonation(bomb);
+            affected += blastCenter(bomb);
+            affected += blastArms(bomb, listener);
+            listener.onArmsResolved(bomb);
+        }
+
+        return affected;
+    }
+
+    /**
+     * Fait exploser la case d'une bombe
+     */
+    private int blastCenter(Bomb bomb) {
+        int x = bomb.getX();
+        int y = bomb.getY();
+        if (!contains(x, y)) return 0;
+
+        int cell = index(x, y);
+        stopStamp[cell] = pass;
+        if (blastStamp[cell] == pass) return 0;
+
+        blastStamp[cell] = pass;
+        board.explode(x, y);
+        return 1;
+    }
+
+    /**
+     * Propage les 4 branches d'une bombe, limitées par sa portée
+     * Une branche s'arrête sur un mur (détruit s'il est destructible) ou sur une bombe, qu'elle déclenche
+     */
+    private int blastArms(Bomb bomb, Listener listener) {
+        int affected = 0;
+
+        for (int dir = 0; dir < 4; dir++) {
+            int x = bomb.getX();
+            int y = bomb.getY();
+
+            for (int i = 1; i <= bomb.getRange(); i++) {
+                x += DX[dir];
+                y += DY[dir];
+                if (!contains(x, y)) break;
+
+                int cell = index(x, y);
+
+                // Case déjà touchée pendant cette passe : pas de nouvelle mise à jour
+                if (stopStamp[cell] == pass) break;
+                if (blastStamp[cell] == pass) continue;
+
+                if (board.isWall(x, y)) {
+                    if (board.canExplode(x, y)) {
+                        blastStamp[cell] = pass;
+                        stopStamp[cell] = pass;
+                        board.explode(x, y);
+                        listener.onWallDestroyed(bomb);
+                        affected++;
+                    }
+                    break; // S'arrêter après avoir touché un mur
+                }
+
+                Bomb other = bombAt[cell];
+                if (other != null) {
+                    // Réaction en chaîne : la bombe touchée saute dans la même passe
+                    bombAt[cell] = null;
+                    stopStamp[cell] = pass;
+                    chain.addLast(other);
+                    break;
+                }
+
+                blastStamp[cell] = pass;
+                board.explode(x, y);
+                affected++;
+            }
+        }
+
+        return affected;
+    }
+
+    /**
+     * Retire une bombe de l'index des cases
+     */
+    private void unregister(Bomb bomb) {
+        if (contains(bomb.getX(), bomb.getY())) {
+            int cell = index(bomb.getX(), bomb.getY());
+            if (bombAt[cell] == bomb) {
+                bombAt[cell] = null;
+            }
+        }
+    }
+
+    private boolean contains(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    private int index(int x, int y) {
+        return y * width + x;
+    }
+}
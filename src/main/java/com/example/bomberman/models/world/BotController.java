@@ -0,0 +1,35 @@
+package com.example.bomberman.models.world;
+
+import com.example.bomberman.models.entities.BotPlayer;
+import com.example.bomberman.models.entities.Player;
+
+/**
+ * Contrôleur d'un bot : le BotPlayer choisit sa stratégie face à l'adversaire et aux dangers
+ * du plateau, se déplace puis pose une bombe s'il le souhaite
+ * Les commandes du clavier sont ignorées
+ * Sert aussi de repli au MctsController quand une recherche échoue
+ */
+public class BotController implements PlayerController {
+
+    @Override
+    public void control(Game game, Player player) {
+        if (!(player instanceof BotPlayer)) return;
+
+        BotPlayer botPlayer = (BotPlayer) player;
+        Player opponent = player == game.getPlayer1() ? game.getPlayer2() : game.getPlayer1();
+        botPlayer.updateBot(game.getBoard(), opponent, game.getDangerMap(), game.getFlowField(opponent));
+
+        // Déplacer le bot selon sa stratégie
+        botPlayer.moveInCurrentDirection(game.getBoard());
+
+        // Vérifier si le bot veut poser une bombe
+        if (botPlayer.wantToPlaceBomb()) {
+            game.placeBomb(botPlayer);
+        }
+    }
+
+    @Override
+    public boolean acceptsCommands() {
+        return false;
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.bomberman.models.world;
+
+import com.example.bomberman.models.entities.Bomb;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Carte des dangers pour l'IA : pour chaque case, le tick où une explosion l'atteindra
+ * Sont comptées les explosions en cours, les branches en attente et les bombes posées,
+ * réactions en chaîne comprises (une bombe touchée par une autre saute en même temps qu'elle)
+ * Les ticks sont absolus : la carte n'est recalculée que lorsque l'état du plateau ou le nombre
+ * de bombes change, et son calcul ne touche que les cases menacées
+ */
+public class DangerMap {
+    /** Tick d'une case qu'aucune explosion n'atteindra */
+    public static final int SAFE = Integer.MAX_VALUE;
+
+    private static final int[] DX = {1, -1, 0, 0};
+    private static final int[] DY = {0, 0, 1, -1};
+
+    private SimulationContext context;
+    private GameBoard board;
+    private int width, height;
+    // État du plateau lors du dernier calcul
+    private int stateVersion;
+    private int bombCount = -1;
+
+    // Tick d'explosion de chaque case (SAFE par défaut) et cases menacées à remettre à SAFE
+    private int[] blastTick = new int[0];
+    private int[] marked = new int[0];
+    private int markedCount;
+
+    // Bombes relevées lors du calcul : case, portée et tick d'explosion
+    private int[] bombCells = new int[16];
+    private int[] bombRanges = new int[16];
+    private int[] bombTicks = new int[16];
+    private int bombsFound;
+
+    // Tick d'explosion des bombes relevées par bombCapture
+    private long captureTick;
+    private final Consumer<Bomb> bombCapture = this::captureBomb;
+    private final IntConsumer explosionCapture = index -> mark(index, (int) context.getTick());
+
+    /**
+     * Recalcule la carte si le plateau a changé depuis le dernier calcul
+     * @param game La partie
+     */
+    void refresh(Game game) {
+        GameBoard current = game.getBoard();
+        if (current == board && current.getStateVersion() == stateVersion && game.getBombCount() == bombCount) {
+            return;
+        }
+
+        context = game.getContext();
+        if (current != board || current.getWidth() != width || current.getHeight() != height) {
+            board = current;
+            width = current.getWidth();
+            height = current.getHeight();
+            blastTick = new int[width * height];
+            Arrays.fill(blastTick, SAFE);
+            marked = new int[width * height];
+            markedCount = 0;
+        }
+        stateVersion = current.getStateVersion();
+        bombCount = game.getBombCount();
+
+        // Remettre à SAFE les seules cases menacées lors du calcul précédent
+        for (int i = 0; i < markedCount; i++) {
+            blastTick[marked[i]] = SAFE;
+        }
+        markedCount = 0;
+
+        long tick = context.getTick();
+        board.forEachCell(GameBoard.EXPLOSION, explosionCapture);
+
+        // Branches en attente : leur bombe a déjà sauté
+        bombsFound = 0;
+        captureTick = tick;
+        game.forEachPendingBlast(bombCapture);
+        captureTick = -1;
+        game.forEachBomb(bombCapture);
+
+        // Une bombe atteinte par une explosion plus précoce saute avec elle : on propage
+        // jusqu'à ce que plus aucun tick ne baisse (au plus une passe par bombe)
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = 0; i < bombsFound; i++) {
+                paintBlast(bombCells[i], bombRanges[i], bombTicks[i]);
+            }
+            for (int i = 0; i < bombsFound; i++) {
+                if (blastTick[bombCells[i]] < bombTicks[i]) {
+                    bombTicks[i] = blastTick[bombCells[i]];
+                    changed = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Relève une bombe ; captureTick vaut -1 pour une bombe dont la mèche brûle encore
+     */
+    private void captureBomb(Bomb bomb) {
+        if (bombsFound == bombCells.length) {
+            bombCells = Arrays.copyOf(bombCells, bombsFound * 2);
+            bombRanges = Arrays.copyOf(bombRanges, bombsFound * 2);
+            bombTicks = Arrays.copyOf(bombTicks, bombsFound * 2);
+        }
+        long detonation = captureTick >= 0 ? captureTick
+                : context.getTick() + SimulationContext.millisToTicks(bomb.getTimeLeft());
+        bombCells[bombsFound] = bomb.getY() * width + bomb.getX();
+        bombRanges[bombsFound] = bomb.getRange();
+        bombTicks[bombsFound] = (int) detonation;
+        bombsFound++;
+    }
+
+    /**
+     * Marque la zone de souffle d'une bombe, avec les mêmes règles que GameBoard.blastMask
+     */
+    private void paintBlast(int center, int range, int tick) {
+        int centerX = center % width;
+        int centerY = center / width;
+        mark(center, tick);
+        for (int dir = 0; dir < 4; dir++) {
+            for (int i = 1; i <= range; i++) {
+                int x = centerX + DX[dir] * i;
+                int y = centerY + DY[dir] * i;
+                if (!board.canExplode(x, y)) break;
+
+                mark(y * width + x, tick);
+
+                // Les branches ne traversent ni les murs destructibles ni les bombes
+                if (board.isWall(x, y) || board.isBomb(x, y)) break;
+            }
+        }
+    }
+
+    /**
+     * Retient le tick d'explosion le plus proche pour une case
+     */
+    private void mark(int index, int tick) {
+        if (blastTick[index] == SAFE) {
+            marked[markedCount++] = index;
+        }
+        if (tick < blastTick[index]) {
+            blastTick[index] = tick;
+        }
+    }
+
+    /**
+     * Indique si une explosion atteindra cette case (ou l'occupe déjà)
+     */
+    public boolean isThreatened(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height && blastTick[y * width + x] != SAFE;
+    }
+
+    /**
+     * Retourne le tick où une explosion atteindra la case, ou SAFE
+     */
+    public int getBlastTick(int x, int y) {
+        return blastTick[y * width + x];
+    }
+
+    /**
+     * Retourne le nombre de ticks avant qu'une explosion atteigne la case
+     * @return 0 pour une explosion en cours, Long.MAX_VALUE pour une case sûre
+     */
+    public long ticksUntilBlast(int x, int y) {
+        int tick = getBlastTick(x, y);
+        if (tick == SAFE) return Long.MAX_VALUE;
+        return Math.max(0, tick - context.getTick());
+    }
+
+    /**
+     * Tick d'explosion par indice de case (y * largeur + x)
+     */
+    int blastTickAt(int index) {
+        return blastTick[index];
+    }
+}
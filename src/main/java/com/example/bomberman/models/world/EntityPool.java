@@ -0,0 +1,70 @@
+package com.example.bomberman.models.world;
+
+import java.util.ArrayDeque;
+
+/**
+ * Réserve d'entités réutilisables (bombes, power-ups)
+ * Une entité rendue à la réserve est réinitialisée par l'appelant lors de sa prochaine utilisation,
+ * ce qui évite d'allouer un nouvel objet à chaque bombe posée ou power-up apparu
+ * Chaque réserve compte ses propres réutilisations (lues par les métriques, voir PerformanceMetrics)
+ * @param <T> Type des entités conservées
+ */
+public class EntityPool<T> {
+    private static final int DEFAULT_MAX_SIZE = 256;
+
+    private final ArrayDeque<T> free;
+    private final int maxSize;
+    private long hits;
+    private long misses;
+
+    /**
+     * Constructeur avec la taille maximale par défaut
+     */
+    public EntityPool() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Constructeur
+     * @param maxSize Nombre maximum d'entités conservées
+     */
+    public EntityPool(int maxSize) {
+        this.maxSize = maxSize;
+        this.free = new ArrayDeque<>(Math.min(maxSize, 16));
+    }
+
+    /**
+     * Retire une entité de la réserve
+     * @return Une entité à réinitialiser, ou null si la réserve est vide (l'appelant en crée une)
+     */
+    public T poll() {
+        T entity = free.pollLast();
+        if (entity != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return entity;
+    }
+
+    /**
+     * Rend une entité qui n'est plus utilisée par la simulation
+     * Elle ne doit être rendue qu'une seule fois
+     */
+    public void release(T entity) {
+        if (free.size() < maxSize) {
+            free.addLast(entity);
+        }
+    }
+
+    /**
+     * Retourne le nombre d'entités disponibles
+     */
+    public int available() {
+        return free.size();
+    }
+
+    // Getters
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+}
@@ -0,0 +1,79 @@
+package com.example.bomberman.models.world;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Liste d'expiration de cases, triée par échéance
+ * Toutes les entrées ayant la même durée de vie, elles sont ajoutées dans l'ordre de leur échéance :
+ * une file circulaire suffit, et chaque tick ne retire que les cases arrivées à expiration
+ */
+public class ExpiryList {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] cells = new int[INITIAL_CAPACITY];
+    private long[] dueTicks = new long[INITIAL_CAPACITY];
+    private int head;
+    private int size;
+
+    /**
+     * Ajoute une case à la fin de la liste
+     * @param cell Indice de la case
+     * @param dueTick Tick d'expiration (jamais antérieur à celui de la dernière entrée)
+     */
+    public void add(int cell, long dueTick) {
+        if (size == cells.length) {
+            grow();
+        }
+        int tail = (head + size) & (cells.length - 1);
+        cells[tail] = cell;
+        dueTicks[tail] = dueTick;
+        size++;
+    }
+
+    /**
+     * Retire les cases dont l'échéance est atteinte
+     * @param tick Tick courant de la simulation
+     * @param action Action appliquée à chaque case expirée
+     */
+    public void expire(long tick, IntConsumer action) {
+        while (size > 0 && dueTicks[head] <= tick) {
+            int cell = cells[head];
+            head = (head + 1) & (cells.length - 1);
+            size--;
+            action.accept(cell);
+        }
+    }
+
+    /**
+     * Vide la liste
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Retourne le nombre de cases en attente d'expiration
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Double la capacité en remettant les entrées dans l'ordre
+     */
+    private void grow() {
+        int capacity = cells.length;
+        int[] newCells = Arrays.copyOf(cells, capacity * 2);
+        long[] newTicks = Arrays.copyOf(dueTicks, capacity * 2);
+        for (int i = 0; i < size; i++) {
+            int from = (head + i) & (capacity - 1);
+            newCells[i] = cells[from];
+            newTicks[i] = dueTicks[from];
+        }
+        cells = newCells;
+        dueTicks = newTicks;
+        head = 0;
+    }
+}
@@ -0,0 +1,298 @@
+package com.example.bomberman.models.world;
+
+import java.util.Arrays;
+
+/**
+ * Champ de distances vers un joueur, partagé par tous les agents de l'IA qui le poursuivent
+ * Chaque case accessible connaît son nombre de pas jusqu'au joueur : un agent prend la case voisine
+ * la plus proche en temps constant, quel que soit le nombre d'agents
+ * Le champ est recalculé en entier quand le joueur change de case ou que la disposition change ;
+ * quand seules quelques cases sont devenues accessibles ou bloquées (bombe posée, mur détruit),
+ * seule la zone concernée est corrigée à partir du journal du plateau
+ */
+public class FlowField {
+    /** Distance d'une case d'où le joueur n'est pas accessible */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    // Directions : 0 = haut, 1 = droite, 2 = bas, 3 = gauche (comme Enemy et BotPlayer)
+    private static final int[] DX = {0, 1, 0, -1};
+    private static final int[] DY = {-1, 0, 1, 0};
+
+    // État du plateau lors du dernier calcul
+    private GameBoard board;
+    private int width, height;
+    private int layoutVersion;
+    private long walkChangeCount;
+    private int target = -1;
+
+    private int[] distance = new int[0];
+    // File du parcours et, lors d'une invalidation, ancienne distance de chaque case de la file
+    private int[] queue = new int[0];
+    private int[] queueDistance = new int[0];
+    // Cases dont la distance a été invalidée par un blocage
+    private int[] affected = new int[0];
+    private int affectedCount;
+    // Cases de départ d'une correction, triées par distance : (distance << 32) | case
+    private long[] seeds = new long[64];
+    private int seedCount;
+
+    /**
+     * Met le champ à jour si le joueur a changé de case ou si le plateau a changé
+     * @param board Le plateau
+     * @param targetX Position X du joueur poursuivi
+     * @param targetY Position Y du joueur poursuivi
+     */
+    void refresh(GameBoard board, int targetX, int targetY) {
+        long changes = board.getWalkChangeCount();
+        int newTarget = targetY * board.getWidth() + targetX;
+        if (board == this.board && board.getLayoutVersion() == layoutVersion
+                && board.getWidth() == width && board.getHeight() == height && newTarget == target) {
+            if (changes == walkChangeCount) return;
+
+            if (board.isWalkChangeAvailable(walkChangeCount)) {
+                repair(changes);
+                walkChangeCount = changes;
+                return;
+            }
+        }
+
+        this.board = board;
+        this.layoutVersion = board.getLayoutVersion();
+        this.walkChangeCount = changes;
+        this.target = newTarget;
+        rebuild();
+    }
+
+    /**
+     * Recalcule tout le champ par un parcours en largeur depuis le joueur
+     */
+    private void rebuild() {
+        if (board.getWidth() != width || board.getHeight() != height) {
+            width = board.getWidth();
+            height = board.getHeight();
+            int cells = width * height;
+            distance = new int[cells];
+            queue = new int[cells];
+            queueDistance = new int[cells];
+            affected = new int[cells];
+        }
+        Arrays.fill(distance, UNREACHABLE);
+        if (target < 0 || target >= distance.length) return;
+
+        distance[target] = 0;
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = target;
+        while (head < tail) {
+            int index = queue[head++];
+            int next = distance[index] + 1;
+            int x = index % width;
+            int y = index / width;
+            for (int dir = 0; dir < 4; dir++) {
+                int nx = x + DX[dir];
+                int ny = y + DY[dir];
+                if (!board.isValidMove(nx, ny)) continue;
+
+                int neighbor = ny * width + nx;
+                if (distance[neighbor] == UNREACHABLE) {
+                    distance[neighbor] = next;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+    }
+
+    /**
+     * Corrige le champ après les changements d'accessibilité notés depuis le dernier calcul
+     * Les cases dont tous les plus courts chemins passaient par une case bloquée sont invalidées,
+     * puis les distances sont propagées depuis leur bordure et depuis les cases devenues accessibles
+     * @param changes Nombre de changements notés dans le journal du plateau
+     */
+    private void repair(long changes) {
+        // Cases bloquées qui étaient sur un chemin : racines de l'invalidation
+        seedCount = 0;
+        for (long sequence = walkChangeCount; sequence < changes; sequence++) {
+            int index = board.getWalkChange(sequence);
+            if (distance[index] != UNREACHABLE && !isPassable(index)) {
+                addSeed(distance[index], index);
+                distance[index] = UNREACHABLE;
+            }
+        }
+        affectedCount = 0;
+        if (seedCount > 0) {
+            invalidate();
+        }
+
+        // Nouveaux départs : bordure de la zone invalidée et cases devenues accessibles
+        seedCount = 0;
+        for (int i = 0; i < affectedCount; i++) {
+            int index = affected[i];
+            int x = index % width;
+            int y = index / width;
+            for (int dir = 0; dir < 4; dir++) {
+                int neighbor = neighbor(x, y, dir);
+                if (neighbor >= 0 && distance[neighbor] != UNREACHABLE) {
+                    addSeed(distance[neighbor], neighbor);
+                }
+            }
+        }
+        for (long sequence = walkChangeCount; sequence < changes; sequence++) {
+            int index = board.getWalkChange(sequence);
+            if (distance[index] == UNREACHABLE && isPassable(index)) {
+                int best = closestNeighbor(index);
+                if (best != UNREACHABLE) {
+                    distance[index] = best + 1;
+                    addSeed(best + 1, index);
+                }
+            }
+        }
+        if (seedCount > 0) {
+            propagate();
+        }
+    }
+
+    /**
+     * Invalide, par distance croissante, les cases qui n'ont plus de voisine à une distance de moins
+     * Les racines (seeds) sont déjà invalidées ; à chaque distance, toutes les cases invalidées de la
+     * distance précédente le sont déjà, ce qui rend le test de la voisine de remplacement sûr
+     */
+    private void invalidate() {
+        Arrays.sort(seeds, 0, seedCount);
+        int head = 0;
+        int tail = 0;
+        int seed = 0;
+        while (seed < seedCount || head < tail) {
+            int index;
+            int oldDistance;
+            if (head < tail && (seed >= seedCount || queueDistance[head] <= (int) (seeds[seed] >>> 32))) {
+                index = queue[head];
+                oldDistance = queueDistance[head++];
+            } else {
+                index = (int) seeds[seed];
+                oldDistance = (int) (seeds[seed++] >>> 32);
+                affected[affectedCount++] = index;
+            }
+
+            int x = index % width;
+            int y = index / width;
+            for (int dir = 0; dir < 4; dir++) {
+                int neighbor = neighbor(x, y, dir);
+                if (neighbor < 0 || neighbor == target || distance[neighbor] != oldDistance + 1) continue;
+                if (closestNeighbor(neighbor) == oldDistance) continue;
+
+                distance[neighbor] = UNREACHABLE;
+                affected[affectedCount++] = neighbor;
+                queue[tail] = neighbor;
+                queueDistance[tail++] = oldDistance + 1;
+            }
+        }
+    }
+
+    /**
+     * Propage les distances depuis les cases de départ, par distance croissante
+     * La file ne reçoit que des distances croissantes : on fusionne file et départs triés
+     */
+    private void propagate() {
+        Arrays.sort(seeds, 0, seedCount);
+        int head = 0;
+        int tail = 0;
+        int seed = 0;
+        while (seed < seedCount || head < tail) {
+            int index;
+            if (head < tail && (seed >= seedCount || distance[queue[head]] <= (int) (seeds[seed] >>> 32))) {
+                index = queue[head++];
+            } else {
+                index = (int) seeds[seed];
+                int seedDistance = (int) (seeds[seed++] >>> 32);
+                // Départ amélioré depuis par la propagation : déjà traité
+                if (distance[index] != seedDistance) continue;
+            }
+
+            int next = distance[index] + 1;
+            int x = index % width;
+            int y = index / width;
+            for (int dir = 0; dir < 4; dir++) {
+                int neighbor = neighbor(x, y, dir);
+                if (neighbor < 0 || next >= distance[neighbor] || !isPassable(neighbor)) continue;
+
+                distance[neighbor] = next;
+                queue[tail++] = neighbor;
+            }
+        }
+    }
+
+    /**
+     * Retourne la plus petite distance parmi les voisines d'une case
+     */
+    private int closestNeighbor(int index) {
+        int x = index % width;
+        int y = index / width;
+        int best = UNREACHABLE;
+        for (int dir = 0; dir < 4; dir++) {
+            int neighbor = neighbor(x, y, dir);
+            if (neighbor >= 0 && distance[neighbor] < best) {
+                best = distance[neighbor];
+            }
+        }
+        return best;
+    }
+
+    private void addSeed(int seedDistance, int index) {
+        if (seedCount == seeds.length) {
+            seeds = Arrays.copyOf(seeds, seedCount * 2);
+        }
+        seeds[seedCount++] = ((long) seedDistance << 32) | index;
+    }
+
+    /**
+     * Indice de la case voisine dans une direction, ou -1 hors du plateau
+     */
+    private int neighbor(int x, int y, int dir) {
+        int nx = x + DX[dir];
+        int ny = y + DY[dir];
+        if (nx < 0 || nx >= width || ny < 0 || ny >= height) return -1;
+        return ny * width + nx;
+    }
+
+    /**
+     * Une case est praticable si l'on peut y marcher ; celle du joueur l'est toujours
+     * (il peut se tenir sur sa propre bombe)
+     */
+    private boolean isPassable(int index) {
+        return index == target || board.isValidMove(index % width, index / width);
+    }
+
+    /**
+     * Retourne la direction de la case voisine la plus proche du joueur
+     * @return 0 = haut, 1 = droite, 2 = bas, 3 = gauche, ou -1 si l'on est sur la case du joueur
+     *         ou qu'il n'est pas accessible
+     */
+    public int directionFrom(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) return -1;
+
+        int best = -1;
+        int bestDistance = distance[y * width + x];
+        for (int dir = 0; dir < 4; dir++) {
+            int neighbor = neighbor(x, y, dir);
+            if (neighbor >= 0 && distance[neighbor] < bestDistance) {
+                best = dir;
+                bestDistance = distance[neighbor];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Copie les distances de toutes les cases (indice y * largeur + x)
+     */
+    void copyDistances(int[] out) {
+        System.arraycopy(distance, 0, out, 0, distance.length);
+    }
+
+    /**
+     * Retourne le nombre de pas jusqu'au joueur, ou UNREACHABLE
+     */
+    public int getDistance(int x, int y) {
+        return distance[y * width + x];
+    }
+}
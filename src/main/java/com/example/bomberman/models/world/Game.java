@@ -3,14 +3,12 @@ package com.example.bomberman.models.world;
 import com.example.bomberman.models.entities.Bomb;
 import com.example.bomberman.models.entities.Player;
 import com.example.bomberman.models.entities.PowerUp;
-import javafx.scene.input.KeyCode;
-import javafx.scene.paint.Color;
 
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Classe principale du jeu - Version simplifiée avec méthodes complètes
@@ -19,48 +17,131 @@ public class Game {
     private static final int BOARD_WIDTH = 15;
     private static final int BOARD_HEIGHT = 13;
 
+    private SimulationContext context;
+    // Paramètres de la partie, réutilisés au redémarrage et au chargement d'un niveau
+    private GameSetup setup;
     private GameBoard board;
     private Player player1;
     private Player player2;
+    // Contrôleur de chaque joueur (clavier ou bot)
+    private PlayerController controller1;
+    private PlayerController controller2;
     private List<Bomb> bombs;
+    private List<Bomb> bombsView;
     private boolean gameRunning;
 
+    // Explosions dont le centre a sauté et qui attendent de se propager dans les 4 directions :
+    // file circulaire (bombe et échéance) réutilisée d'une explosion à l'autre
+    private Bomb[] pendingBombs = new Bomb[16];
+    private long[] pendingDueTimes = new long[16];
+    private int pendingHead;
+    private int pendingCount;
+    private static final long BLAST_PROPAGATION_DELAY = 200; // 200ms entre le centre et les branches
+
+    // Échéancier des mèches : chaque tick ne traite que les bombes qui doivent exploser
+    private TimingWheel<Bomb> bombFuses;
+    private final TimingWheel.Handler<Bomb> fuseEvents = this::onFuseDue;
+    private static final long FUSE_TICKS = SimulationContext.millisToTicks(Bomb.EXPLOSION_DELAY);
+
+    // Réserve des bombes dont l'explosion est terminée
+    private final EntityPool<Bomb> bombPool = new EntityPool<>();
+
+    // Résolution des explosions du tick (réactions en chaîne comprises)
+    private BlastResolver blasts;
+    private final BlastResolver.Listener blastEvents = new BlastEvents();
+
+    // Carte des dangers pour les bots, recalculée seulement quand le plateau change
+    private final DangerMap dangerMap = new DangerMap();
+    // Champ de distances vers chaque joueur, partagé par les agents qui le poursuivent
+    private final FlowField[] flowFields = {new FlowField(), new FlowField()};
+
     // Scores et statistiques
     private int player1Score = 0;
     private int player2Score = 0;
     private int bombsPlaced = 0;
     private int wallsDestroyed = 0;
 
-    // Pour gérer les touches pressées simultanément
-    private Set<KeyCode> pressedKeys;
-
-    // Contrôles fixes pour les joueurs
-    // Joueur 1: ZQSD + A (bombe) + E (capacité spéciale)
-    private static final KeyCode P1_UP = KeyCode.Z;
-    private static final KeyCode P1_DOWN = KeyCode.S;
-    private static final KeyCode P1_LEFT = KeyCode.Q;
-    private static final KeyCode P1_RIGHT = KeyCode.D;
-    private static final KeyCode P1_BOMB = KeyCode.A;
-    private static final KeyCode P1_SPECIAL = KeyCode.E;
-    
-    // Joueur 2: Flèches + Espace (bombe) + Ctrl droit (capacité spéciale)
-    private static final KeyCode P2_UP = KeyCode.UP;
-    private static final KeyCode P2_DOWN = KeyCode.DOWN;
-    private static final KeyCode P2_LEFT = KeyCode.LEFT;
-    private static final KeyCode P2_RIGHT = KeyCode.RIGHT;
-    private static final KeyCode P2_BOMB = KeyCode.SPACE;
-    private static final KeyCode P2_SPECIAL = KeyCode.CONTROL;
+    // Commandes maintenues par chaque joueur (indice = identifiant du joueur - 1)
+    private final boolean[][] heldCommands;
+
+    // Commandes de déplacement, dans l'ordre où elles sont traitées
+    private static final PlayerCommand[] MOVEMENT_COMMANDS = {
+        PlayerCommand.UP, PlayerCommand.DOWN, PlayerCommand.LEFT, PlayerCommand.RIGHT
+    };
 
     public Game() {
-        pressedKeys = new HashSet<>();
-        initializeGame();
+        this(new GameSetup());
     }
 
+    /**
+     * Constructeur d'une partie reproductible
+     * @param seed Graine du générateur aléatoire de la simulation
+     */
+    public Game(long seed) {
+        this(new GameSetup().seed(seed));
+    }
+
+    /**
+     * Constructeur d'une partie décrite en mémoire (voir GameSetup)
+     * @param setup Paramètres de la partie
+     */
+    protected Game(GameSetup setup) {
+        this.context = setup.createContext();
+        heldCommands = new boolean[2][PlayerCommand.values().length];
+        bombFuses = new TimingWheel<>(context.getTick());
+        start(setup);
+    }
+
+    /**
+     * Redémarre la partie avec les mêmes paramètres (niveau, adversaire et contrôleurs)
+     */
     public void initializeGame() {
-        board = new GameBoard(BOARD_WIDTH, BOARD_HEIGHT);
-        player1 = new Player(1, 1, Color.BLUE, 1);
-        player2 = new Player(BOARD_WIDTH - 2, BOARD_HEIGHT - 2, Color.RED, 2);
-        bombs = new ArrayList<>();
+        start(setup);
+    }
+
+    /**
+     * Met en place le plateau et les joueurs, puis remet la partie à zéro
+     * @param setup Paramètres de la partie (copiés : l'appelant peut continuer à modifier les siens)
+     */
+    private void start(GameSetup setup) {
+        this.setup = setup.copy();
+        LevelData level = setup.getLevel();
+        int player1X = 1, player1Y = 1;
+        int player2X = BOARD_WIDTH - 2, player2Y = BOARD_HEIGHT - 2;
+        if (level != null) {
+            board = new GameBoard(context);
+            board.loadLevel(level);
+            player1X = level.getPlayer1X();
+            player1Y = level.getPlayer1Y();
+            player2X = level.getPlayer2X();
+            player2Y = level.getPlayer2Y();
+        } else {
+            board = new GameBoard(context, BOARD_WIDTH, BOARD_HEIGHT);
+        }
+        blasts = new BlastResolver(board);
+
+        player1 = new Player(context, player1X, player1Y, 1);
+        if (setup.getBotDifficulty() > 0) {
+            player2 = new com.example.bomberman.models.entities.BotPlayer(
+                    context, player2X, player2Y, 2, setup.getBotDifficulty());
+        } else {
+            player2 = new Player(context, player2X, player2Y, 2);
+        }
+        controller1 = setup.getController(1);
+        controller2 = setup.getController(2);
+
+        // La liste est vidée plutôt que remplacée : la vue des bombes reste valable après un redémarrage
+        if (bombs == null) {
+            bombs = new ArrayList<>();
+            bombsView = Collections.unmodifiableList(bombs);
+        } else {
+            bombs.clear();
+        }
+        clearPendingBlasts();
+        bombFuses.clear();
+        for (boolean[] held : heldCommands) {
+            Arrays.fill(held, false);
+        }
         gameRunning = true;
         player1Score = 0;
         player2Score = 0;
@@ -68,99 +149,111 @@ public class Game {
         wallsDestroyed = 0;
     }
 
-    public void handleKeyPressed(KeyCode key) {
+    /**
+     * Reçoit une commande pressée par un joueur
+     * @param playerId Identifiant du joueur (1 ou 2)
+     * @param command Commande pressée
+     */
+    public void handleCommandPressed(int playerId, PlayerCommand command) {
         if (!gameRunning) return;
 
-        pressedKeys.add(key);
+        Player player = getPlayerById(playerId);
+        if (player == null) return;
 
-        // Vérifier si le joueur 2 est un bot
-        boolean isPlayer2Bot = player2 instanceof com.example.bomberman.models.entities.BotPlayer;
+        heldCommands[playerId - 1][command.ordinal()] = true;
 
-        // Gestion des bombes avec contrôles fixes
-        if (key == P1_BOMB && player1.isAlive()) {
-            placeBomb(player1);
-        } else if (key == P2_BOMB && player2.isAlive() && !isPlayer2Bot) {
-            // Ignorer les commandes du joueur 2 si c'est un bot
-            placeBomb(player2);
+        // Ignorer les commandes d'un joueur contrôlé autrement qu'au clavier (bot)
+        if (!getController(playerId).acceptsCommands() || !player.isAlive()) {
+            return;
         }
-        
-        // Gestion des capacités spéciales
-        if (key == P1_SPECIAL && player1.isAlive()) {
-            // Capacité spéciale du joueur 1
-            useSpecialAbility(player1);
-        } else if (key == P2_SPECIAL && player2.isAlive() && !isPlayer2Bot) {
-            // Ignorer les commandes du joueur 2 si c'est un bot
-            useSpecialAbility(player2);
+
+        // Gestion des bombes et des capacités spéciales
+        if (command == PlayerCommand.BOMB) {
+            placeBomb(player);
+        } else if (command == PlayerCommand.SPECIAL) {
+            useSpecialAbility(player);
+        }
+    }
+
+    /**
+     * Reçoit une commande relâchée par un joueur
+     * @param playerId Identifiant du joueur (1 ou 2)
+     * @param command Commande relâchée
+     */
+    public void handleCommandReleased(int playerId, PlayerCommand command) {
+        if (playerId == 1 || playerId == 2) {
+            heldCommands[playerId - 1][command.ordinal()] = false;
         }
     }
 
-    public void handleKeyReleased(KeyCode key) {
-        pressedKeys.remove(key);
+    /**
+     * Indique si un joueur maintient une commande
+     */
+    protected boolean isCommandHeld(int playerId, PlayerCommand command) {
+        return heldCommands[playerId - 1][command.ordinal()];
     }
 
-    // Méthode pour traiter les mouvements en continu avec contrôles fixes
+    // Méthode pour traiter les mouvements en continu des deux joueurs
     public void processMovement() {
         if (!gameRunning) return;
 
-        // Joueur 1 avec contrôles fixes
-        if (player1 != null && player1.isAlive()) {
-            if (pressedKeys.contains(P1_UP)) {
-                movePlayer(player1, 0, -1);
-            }
-            if (pressedKeys.contains(P1_DOWN)) {
-                movePlayer(player1, 0, 1);
-            }
-            if (pressedKeys.contains(P1_LEFT)) {
-                movePlayer(player1, -1, 0);
-            }
-            if (pressedKeys.contains(P1_RIGHT)) {
-                movePlayer(player1, 1, 0);
-            }
-        }
+        processPlayerMovement(player1);
+        processPlayerMovement(player2);
+    }
 
-        // Joueur 2 avec contrôles fixes
-        if (player2 != null && player2.isAlive()) {
-            if (pressedKeys.contains(P2_UP)) {
-                movePlayer(player2, 0, -1);
-            }
-            if (pressedKeys.contains(P2_DOWN)) {
-                movePlayer(player2, 0, 1);
-            }
-            if (pressedKeys.contains(P2_LEFT)) {
-                movePlayer(player2, -1, 0);
-            }
-            if (pressedKeys.contains(P2_RIGHT)) {
-                movePlayer(player2, 1, 0);
+    /**
+     * Déplace un joueur selon les commandes de déplacement qu'il maintient
+     */
+    protected void processPlayerMovement(Player player) {
+        if (player == null || !player.isAlive()) return;
+
+        boolean[] held = heldCommands[player.getPlayerId() - 1];
+        for (PlayerCommand command : MOVEMENT_COMMANDS) {
+            if (held[command.ordinal()]) {
+                movePlayer(player, command.getDx(), command.getDy());
             }
         }
     }
 
-    private void movePlayer(Player player, int dx, int dy) {
+    /**
+     * Déplace un joueur d'une case et lui fait ramasser le power-up qui s'y trouve
+     */
+    protected void movePlayer(Player player, int dx, int dy) {
         if (player.moveToPosition(player.getX() + dx, player.getY() + dy, board)) {
             // Collecter power-up si disponible
             PowerUp powerUp = board.collectPowerUp(player.getX(), player.getY());
             if (powerUp != null) {
                 player.applyPowerUp(powerUp.getType());
                 // Ajouter des points
-                if (player == player1) {
-                    player1Score += 10;
-                } else {
-                    player2Score += 10;
-                }
+                addScore(player, 10);
             }
         }
     }
+
+    /**
+     * Ajoute des points au score d'un joueur
+     */
+    protected void addScore(Player player, int points) {
+        if (player == player1) {
+            player1Score += points;
+        } else {
+            player2Score += points;
+        }
+    }
     
     /**
      * Utilise la capacité spéciale du joueur
      * Pour l'instant, c'est juste un espace réservé pour de futures fonctionnalités
      */
-    private void useSpecialAbility(Player player) {
+    protected void useSpecialAbility(Player player) {
         // Espace réservé pour de futures fonctionnalités
         System.out.println("Joueur " + player.getPlayerId() + " utilise sa capacité spéciale");
     }
 
-    private void placeBomb(Player player) {
+    /**
+     * Pose une bombe sous le joueur s'il lui en reste une et que la case est libre
+     */
+    protected void placeBomb(Player player) {
         // Vérifier si le joueur peut placer une bombe
         if (player.canPlaceBomb()) {
             // Vérifier s'il y a déjà une bombe à cette position
@@ -168,9 +261,16 @@ public class Game {
                 return; // Ne pas placer de bombe si une existe déjà à cette position
             }
             
-            // Créer une nouvelle bombe avec la portée du joueur
-            Bomb bomb = new Bomb(player.getX(), player.getY(), player.getPlayerId(), player.getBombRange());
+            // Réutiliser une bombe de la réserve (ou en créer une) avec la portée du joueur
+            Bomb bomb = bombPool.poll();
+            if (bomb != null) {
+                bomb.reinitialize(player.getX(), player.getY(), player.getPlayerId(), player.getBombRange());
+            } else {
+                bomb = new Bomb(context, player.getX(), player.getY(), player.getPlayerId(), player.getBombRange());
+            }
             bombs.add(bomb);
+            bombFuses.schedule(bomb, bomb.getGeneration(), context.getTick() + FUSE_TICKS);
+            blasts.registerBomb(bomb);
             board.placeBomb(player.getX(), player.getY());
             player.placeBomb();
             bombsPlaced++;
@@ -178,6 +278,9 @@ public class Game {
     }
 
     public void update() {
+        // Faire avancer l'horloge de la simulation
+        context.advanceTick();
+
         // Mettre à jour le plateau
         board.update();
         
@@ -185,165 +288,143 @@ public class Game {
         player1.update();
         player2.update();
         
-        // Vérifier si le joueur 2 est un BotPlayer
-        if (player2 instanceof com.example.bomberman.models.entities.BotPlayer) {
-            // Traiter le bot
-            com.example.bomberman.models.entities.BotPlayer botPlayer = 
-                (com.example.bomberman.models.entities.BotPlayer) player2;
-            botPlayer.updateBot(board, player1);
-            
-            // Déplacer le bot selon sa stratégie
-            botPlayer.moveInCurrentDirection(board);
-            
-            // Vérifier si le bot veut poser une bombe
-            if (botPlayer.wantToPlaceBomb()) {
-                placeBomb(botPlayer);
-            }
-            
-            // Traiter uniquement les mouvements du joueur 1
-            processPlayer1Movement();
-        } else {
-            // Traiter les mouvements des deux joueurs normalement
-            processMovement();
-        }
+        // Faire agir chaque joueur selon son contrôleur (clavier ou bot)
+        controller1.control(this, player1);
+        controller2.control(this, player2);
 
-        // Mettre à jour les bombes
-        Iterator<Bomb> bombIterator = bombs.iterator();
-        while (bombIterator.hasNext()) {
-            Bomb bomb = bombIterator.next();
-            bomb.update();
-
-            if (bomb.hasExploded()) {
-                // Gérer l'explosion
-                int wallsDestroyedByThisBomb = handleExplosion(bomb);
-                wallsDestroyed += wallsDestroyedByThisBomb;
-
-                bombIterator.remove();
-                board.removeBomb(bomb.getX(), bomb.getY());
-                
-                // Rendre la bombe disponible au joueur
-                if (bomb.getPlayerId() == 1) {
-                    player1.bombExploded();
-                } else {
-                    player2.bombExploded();
-                }
-            }
-        }
+        // Faire exploser les bombes et propager les explosions du tick
+        processExplosions();
 
         // Vérifier les conditions de victoire
         checkWinConditions();
     }
-    
+
     /**
-     * Traite uniquement les mouvements du joueur 1
+     * Traite les explosions du tick : mèches arrivées à terme, branches en attente
+     * et réactions en chaîne, résolues ensemble en une seule passe
      */
-    private void processPlayer1Movement() {
-        if (!gameRunning) return;
+    protected void processExplosions() {
+        processBombFuses();
+        processPendingBlasts();
 
-        // Joueur 1 avec contrôles fixes
-        if (player1 != null && player1.isAlive()) {
-            if (pressedKeys.contains(P1_UP)) {
-                movePlayer(player1, 0, -1);
-            }
-            if (pressedKeys.contains(P1_DOWN)) {
-                movePlayer(player1, 0, 1);
-            }
-            if (pressedKeys.contains(P1_LEFT)) {
-                movePlayer(player1, -1, 0);
-            }
-            if (pressedKeys.contains(P1_RIGHT)) {
-                movePlayer(player1, 1, 0);
-            }
+        if (blasts.resolve(blastEvents) > 0) {
+            // Vérifier si les joueurs sont touchés par l'explosion
+            checkPlayerDamage();
         }
     }
 
-    private int handleExplosion(Bomb bomb) {
-        int x = bomb.getX();
-        int y = bomb.getY();
-        int range = bomb.getRange();
-        int wallsDestroyedByThisBomb = 0;
+    /**
+     * Déclenche les bombes dont la mèche arrive à échéance pendant ce tick
+     */
+    private void processBombFuses() {
+        bombFuses.advanceTo(context.getTick(), fuseEvents);
+    }
 
-        // Explosion au centre
-        board.explode(x, y);
-        
-        // On attend un peu avant de propager l'explosion dans les 4 directions
-        // pour que les joueurs aient le temps de ramasser les power-ups
-        try {
-            Thread.sleep(200); // Attente de 200ms
-        } catch (InterruptedException e) {
-            // Ignorer l'interruption
-        }
-        
-        // Explosion dans les 4 directions, limitée par la portée et s'arrêtant aux murs
-        // Direction: droite
-        for (int i = 1; i <= range; i++) {
-            if (x + i < board.getWidth()) {
-                if (board.isWall(x + i, y)) {
-                    if (board.canExplode(x + i, y)) {
-                        board.explode(x + i, y);
-                        wallsDestroyedByThisBomb++;
-                    }
-                    break; // S'arrêter après avoir touché un mur
-                }
-                board.explode(x + i, y);
-            }
-        }
-        
-        // Direction: gauche
-        for (int i = 1; i <= range; i++) {
-            if (x - i >= 0) {
-                if (board.isWall(x - i, y)) {
-                    if (board.canExplode(x - i, y)) {
-                        board.explode(x - i, y);
-                        wallsDestroyedByThisBomb++;
-                    }
-                    break; // S'arrêter après avoir touché un mur
-                }
-                board.explode(x - i, y);
-            }
-        }
-        
-        // Direction: bas
-        for (int i = 1; i <= range; i++) {
-            if (y + i < board.getHeight()) {
-                if (board.isWall(x, y + i)) {
-                    if (board.canExplode(x, y + i)) {
-                        board.explode(x, y + i);
-                        wallsDestroyedByThisBomb++;
-                    }
-                    break; // S'arrêter après avoir touché un mur
-                }
-                board.explode(x, y + i);
-            }
-        }
-        
-        // Direction: haut
-        for (int i = 1; i <= range; i++) {
-            if (y - i >= 0) {
-                if (board.isWall(x, y - i)) {
-                    if (board.canExplode(x, y - i)) {
-                        board.explode(x, y - i);
-                        wallsDestroyedByThisBomb++;
-                    }
-                    break; // S'arrêter après avoir touché un mur
-                }
-                board.explode(x, y - i);
-            }
-        }
+    /**
+     * Mèche arrivée à échéance
+     * @param generation Numéro d'utilisation de la bombe lors de la planification
+     */
+    private void onFuseDue(Bomb bomb, int generation) {
+        // Bombe déjà sautée en chaîne, voire réutilisée depuis : événement périmé
+        if (bomb.getGeneration() != generation) return;
+
+        detonateBomb(bomb);
+    }
+
+    /**
+     * Fait exploser une bombe et la retire du jeu
+     */
+    private void detonateBomb(Bomb bomb) {
+        if (bomb.hasExploded()) return; // Événement périmé
+
+        bomb.detonate();
+
+        // Gérer l'explosion (le centre saute, les branches suivront)
+        handleExplosion(bomb);
+        removeExplodedBomb(bomb);
+    }
+
+    /**
+     * Retire une bombe qui a explosé et la rend disponible à son joueur
+     */
+    private void removeExplodedBomb(Bomb bomb) {
+        bombs.remove(bomb);
+        board.removeBomb(bomb.getX(), bomb.getY());
 
-        // Ajouter des points pour les murs détruits
+        // Rendre la bombe disponible au joueur
         if (bomb.getPlayerId() == 1) {
-            player1Score += wallsDestroyedByThisBomb * 5;
+            player1.bombExploded();
         } else {
-            player2Score += wallsDestroyedByThisBomb * 5;
+            player2.bombExploded();
         }
+    }
+    
+    /**
+     * Déclenche l'explosion d'une bombe : le centre explose immédiatement,
+     * la propagation dans les 4 directions est planifiée 200ms plus tard
+     * pour que les joueurs aient le temps de ramasser les power-ups
+     */
+    private void handleExplosion(Bomb bomb) {
+        // Explosion au centre, appliquée lors de la résolution du tick
+        blasts.queueCenter(bomb);
 
-        // Vérifier si les joueurs sont touchés par l'explosion
-        checkPlayerDamage();
+        addPendingBlast(bomb, context.currentTimeMillis() + BLAST_PROPAGATION_DELAY);
+    }
 
-        return wallsDestroyedByThisBomb;
+    /**
+     * Ajoute une propagation en attente à la fin de la file
+     */
+    private void addPendingBlast(Bomb bomb, long dueTime) {
+        if (pendingCount == pendingBombs.length) {
+            growPendingBlasts();
+        }
+        int tail = (pendingHead + pendingCount) & (pendingBombs.length - 1);
+        pendingBombs[tail] = bomb;
+        pendingDueTimes[tail] = dueTime;
+        pendingCount++;
     }
-    
+
+    /**
+     * Transmet à la résolution les propagations en attente dont le délai est écoulé
+     * Les délais étant identiques, la file est toujours triée par échéance
+     */
+    private void processPendingBlasts() {
+        long now = context.currentTimeMillis();
+        while (pendingCount > 0 && pendingDueTimes[pendingHead] <= now) {
+            Bomb bomb = pendingBombs[pendingHead];
+            pendingBombs[pendingHead] = null;
+            pendingHead = (pendingHead + 1) & (pendingBombs.length - 1);
+            pendingCount--;
+            blasts.queueArms(bomb);
+        }
+    }
+
+    /**
+     * Vide la file des propagations en attente
+     */
+    private void clearPendingBlasts() {
+        Arrays.fill(pendingBombs, null);
+        pendingHead = 0;
+        pendingCount = 0;
+    }
+
+    /**
+     * Double la capacité de la file en remettant les entrées dans l'ordre
+     */
+    private void growPendingBlasts() {
+        int capacity = pendingBombs.length;
+        Bomb[] newBombs = new Bomb[capacity * 2];
+        long[] newDueTimes = new long[capacity * 2];
+        for (int i = 0; i < pendingCount; i++) {
+            int from = (pendingHead + i) & (capacity - 1);
+            newBombs[i] = pendingBombs[from];
+            newDueTimes[i] = pendingDueTimes[from];
+        }
+        pendingBombs = newBombs;
+        pendingDueTimes = newDueTimes;
+        pendingHead = 0;
+    }
+
     /**
      * Vérifie si les joueurs sont touchés par une explosion
      */
@@ -357,7 +438,7 @@ public class Game {
             } else {
                 // Le joueur est mort
                 System.out.println("Joueur 1 éliminé !");
-                player2Score += 50; // Points bonus pour avoir éliminé l'adversaire
+                addScore(player2, 50); // Points bonus pour avoir éliminé l'adversaire
             }
         }
         
@@ -370,7 +451,7 @@ public class Game {
             } else {
                 // Le joueur est mort
                 System.out.println("Joueur 2 éliminé !");
-                player1Score += 50; // Points bonus pour avoir éliminé l'adversaire
+                addScore(player1, 50); // Points bonus pour avoir éliminé l'adversaire
             }
         }
     }
@@ -391,11 +472,134 @@ public class Game {
         }
     }
 
+    /**
+     * Réactions du jeu pendant la résolution des explosions
+     */
+    private class BlastEvents implements BlastResolver.Listener {
+        @Override
+        public void onChainDetonation(Bomb bomb) {
+            // La mèche planifiée de cette bombe sera ignorée à son échéance
+            bomb.detonate();
+            removeExplodedBomb(bomb);
+        }
+
+        @Override
+        public void onWallDestroyed(Bomb bomb) {
+            wallsDestroyed++;
+
+            // Ajouter des points pour le mur détruit
+            addScore(bomb.getPlayerId() == 1 ? player1 : player2, 5);
+        }
+
+        @Override
+        public void onArmsResolved(Bomb bomb) {
+            bombPool.release(bomb);
+        }
+    }
+
     // Getters pour le contrôleur
+    public SimulationContext getContext() { return context; }
     public GameBoard getBoard() { return board; }
     public Player getPlayer1() { return player1; }
     public Player getPlayer2() { return player2; }
-    public List<Bomb> getBombs() { return new ArrayList<>(bombs); }
+
+    /**
+     * Retourne les paramètres avec lesquels la partie redémarrera
+     */
+    protected GameSetup getSetup() { return setup; }
+
+    /**
+     * Retourne le contrôleur d'un joueur
+     * @param playerId Identifiant du joueur (1 ou 2)
+     */
+    public PlayerController getController(int playerId) {
+        return playerId == 1 ? controller1 : controller2;
+    }
+
+    /**
+     * Remplace le contrôleur d'un joueur en cours de partie
+     * @param playerId Identifiant du joueur (1 ou 2)
+     * @param controller Le nouveau contrôleur
+     */
+    protected void setController(int playerId, PlayerController controller) {
+        if (playerId == 1) {
+            controller1 = controller;
+        } else {
+            controller2 = controller;
+        }
+    }
+
+    /**
+     * Retourne le joueur correspondant à un identifiant
+     * @param playerId Identifiant du joueur (1 ou 2)
+     * @return Le joueur ou null si l'identifiant est inconnu
+     */
+    public Player getPlayerById(int playerId) {
+        if (playerId == 1) return player1;
+        if (playerId == 2) return player2;
+        return null;
+    }
+
+    /**
+     * Retourne une vue en lecture seule des bombes posées, toujours à jour (aucune copie)
+     * Les bombes ne sont ajoutées et retirées que par la partie elle-même
+     */
+    public List<Bomb> getBombs() { return bombsView; }
+
+    /**
+     * Parcourt les bombes posées sans allocation
+     * @param action Action appliquée à chaque bombe (ne doit pas poser ni retirer de bombe)
+     */
+    public void forEachBomb(Consumer<Bomb> action) {
+        for (int i = 0; i < bombs.size(); i++) {
+            action.accept(bombs.get(i));
+        }
+    }
+
+    /**
+     * Parcourt les bombes qui ont sauté et dont les branches ne se sont pas encore propagées
+     */
+    void forEachPendingBlast(Consumer<Bomb> action) {
+        for (int i = 0; i < pendingCount; i++) {
+            action.accept(pendingBombs[(pendingHead + i) & (pendingBombs.length - 1)]);
+        }
+    }
+
+    /**
+     * Retourne la carte des dangers, mise à jour si les bombes, les murs ou les explosions ont changé
+     */
+    public DangerMap getDangerMap() {
+        dangerMap.refresh(this);
+        return dangerMap;
+    }
+
+    /**
+     * Retourne le champ de distances vers un joueur, mis à jour s'il a bougé ou si le plateau a changé
+     * Tous les agents qui poursuivent ce joueur partagent le même champ
+     * @param target Le joueur poursuivi
+     */
+    public FlowField getFlowField(Player target) {
+        FlowField field = flowFields[target.getPlayerId() - 1];
+        field.refresh(board, target.getX(), target.getY());
+        return field;
+    }
+
+    public int getBombCount() { return bombs.size(); }
+
+    /**
+     * Retourne le nombre d'entités réutilisées par les réserves de la partie (bombes et power-ups)
+     */
+    public long getPoolHits() {
+        return bombPool.getHits() + board.getPowerUpPool().getHits();
+    }
+
+    /**
+     * Retourne le nombre d'entités que les réserves de la partie n'ont pas pu fournir
+     */
+    public long getPoolMisses() {
+        return bombPool.getMisses() + board.getPowerUpPool().getMisses();
+    }
+
     public boolean isGameRunning() { return gameRunning; }
     public int getPlayer1Score() { return player1Score; }
     public int getPlayer2Score() { return player2Score; }
@@ -404,27 +608,14 @@ public class Game {
 
     /**
      * Active le mode bot pour le joueur 2
-     * @param difficultyLevel Niveau de difficulté (1-3)
+     * @param difficultyLevel Niveau de difficulté (1-3, ou GameSetup.EXPERT)
      */
     public void enableBotMode(int difficultyLevel) {
-        try {
-            // Créer une instance de BotGame
-            BotGame botGame = new BotGame(difficultyLevel);
-            
-            // Copier les propriétés importantes du BotGame vers cette instance
-            this.board = botGame.getBoard();
-            this.player1 = botGame.getPlayer1();
-            this.player2 = botGame.getPlayer2();
-            this.bombs = botGame.getBombs();
-            this.gameRunning = botGame.isGameRunning();
-            this.player1Score = botGame.getPlayer1Score();
-            this.player2Score = botGame.getPlayer2Score();
-            
-            System.out.println("Mode bot activé avec succès (difficulté: " + difficultyLevel + ")");
-        } catch (Exception e) {
-            System.err.println("Erreur lors de l'activation du mode bot: " + e.getMessage());
-            e.printStackTrace();
-        }
+        // Même niveau et même joueur 1, joueur 2 remplacé par un bot avec son contrôleur par défaut ;
+        // la partie repart de zéro comme au redémarrage
+        start(setup.copy().botOpponent(difficultyLevel).controller(2, null));
+
+        System.out.println("Mode bot activé avec succès (difficulté: " + difficultyLevel + ")");
     }
 
     /**
@@ -440,46 +631,10 @@ public class Game {
      * @return true si le niveau a été chargé avec succès, false sinon
      */
     public boolean loadLevel(String levelPath) {
-        try (java.io.BufferedReader reader = new java.io.BufferedReader(new java.io.FileReader(levelPath))) {
-            // Lire les dimensions
-            String[] dimensions = reader.readLine().split(",");
-            int levelWidth = Integer.parseInt(dimensions[0]);
-            int levelHeight = Integer.parseInt(dimensions[1]);
-
-            // Lire les positions des joueurs
-            String[] players = reader.readLine().split(",");
-            int player1X = Integer.parseInt(players[0]);
-            int player1Y = Integer.parseInt(players[1]);
-            int player2X = Integer.parseInt(players[2]);
-            int player2Y = Integer.parseInt(players[3]);
-
-            // Créer un nouveau plateau de jeu avec les dimensions lues
-            board = new GameBoard();
-            
-            // Lire les données du niveau
-            int[][] levelData = new int[levelHeight][levelWidth];
-            for (int y = 0; y < levelHeight; y++) {
-                String[] row = reader.readLine().split(",");
-                for (int x = 0; x < levelWidth; x++) {
-                    levelData[y][x] = Integer.parseInt(row[x]);
-                }
-            }
-            
-            // Charger le niveau dans le plateau de jeu
-            board.loadLevel(levelData);
-            
-            // Repositionner les joueurs
-            player1 = new Player(player1X, player1Y, Color.BLUE, 1);
-            player2 = new Player(player2X, player2Y, Color.RED, 2);
-            
-            // Réinitialiser les bombes et l'état du jeu
-            bombs = new ArrayList<>();
-            gameRunning = true;
-            player1Score = 0;
-            player2Score = 0;
-            bombsPlaced = 0;
-            wallsDestroyed = 0;
-            
+        try {
+            // Lire le niveau (format texte ou binaire), puis repositionner les joueurs et réinitialiser la partie
+            // (l'adversaire et les contrôleurs restent ceux de la partie)
+            start(setup.copy().level(LevelFormat.read(levelPath)));
             return true;
         } catch (Exception e) {
             e.printStackTrace();
@@ -1,18 +1,18 @@
 package com.example.bomberman.models.world;
 
 import com.example.bomberman.models.entities.PowerUp;
-import com.example.bomberman.service.SoundManager;
-import com.example.bomberman.utils.SpriteManager;
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
-import javafx.scene.paint.Color;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 /**
  * Classe représentant le plateau de jeu amélioré
+ * L'état des cases est rangé dans des plans de bits (murs, murs destructibles, bombes, explosions)
+ * pour permettre des requêtes sur tout le plateau 64 cases à la fois
  */
 public class GameBoard {
     public static final int EMPTY = 0;
@@ -21,74 +21,111 @@ public class GameBoard {
     public static final int BOMB = 3;
     public static final int EXPLOSION = 4;
 
-    private int[][] board;
-    private long[][] explosionTime;
+    private final SimulationContext context;
+    private final SplittableRandom random;
+    // Plans de bits de l'état des cases (une case appartient à au plus un plan)
+    private BitPlane hardWalls;
+    private BitPlane softWalls;
+    private BitPlane bombs;
+    private BitPlane explosions;
+    // Tick de la dernière explosion de chaque case
+    private int[] explosionTick;
+    // Cases modifiées depuis la dernière lecture par le rendu
+    private BitPlane dirtyCells;
+    // Plans de travail des requêtes sur tout le plateau
+    private BitPlane rayPlane;
+    private BitPlane shiftPlane;
     private List<PowerUp> powerUps;
+    // Index des power-ups par case (au plus un par case) et place de chacun dans la liste
+    private PowerUp[] powerUpAt;
+    private int[] powerUpSlot;
     private int width, height;
-    private static final long EXPLOSION_DURATION = 1000; // 1 seconde
+    // Incrémenté à chaque changement de disposition (nouveau plateau, niveau chargé)
+    private int layoutVersion;
+    // Incrémenté à chaque changement du contenu des cases (murs, bombes, explosions)
+    private int stateVersion;
+    // Journal circulaire des dernières cases devenues accessibles ou bloquées (voir getWalkChange)
+    private static final int WALK_JOURNAL_SIZE = 64;
+    private final int[] walkChanges = new int[WALK_JOURNAL_SIZE];
+    private long walkChangeCount;
+    public static final long EXPLOSION_DURATION = 1000; // 1 seconde
     private static final double POWERUP_SPAWN_CHANCE = 0.3; // 30% de chance
-    
-    // Sprites
-    private SpriteManager spriteManager;
-    private Image tileSprite;
-    private Image wallSprite;
-    private Image breakableWallSprite;
-    private Image explosionSprite;
+
+    // Échéancier du cycle de vie des power-ups (élément = power-up, donnée = type d'événement)
+    private final TimingWheel<PowerUp> timers;
+    private final TimingWheel.Handler<PowerUp> powerUpEvents = this::onPowerUpEvent;
+    // Cases en explosion, dans l'ordre de leur extinction
+    private final ExpiryList explosionExpiry = new ExpiryList();
+    private final IntConsumer explosionEnd = this::endExplosion;
+    // Donnée d'un événement de power-up : (numéro d'utilisation << 1) | type d'événement
+    private static final int POWERUP_INVINCIBILITY_END = 0;
+    private static final int POWERUP_EXPIRY = 1;
+    private static final long EXPLOSION_TICKS = SimulationContext.millisToTicks(EXPLOSION_DURATION);
+
+    // Réserve des power-ups ramassés, détruits ou expirés
+    private final EntityPool<PowerUp> powerUpPool = new EntityPool<>();
 
     /**
      * Constructeur par défaut avec dimensions standard
      */
-    public GameBoard() {
-        this(15, 13); // Dimensions standard par défaut
+    public GameBoard(SimulationContext context) {
+        this(context, 15, 13); // Dimensions standard par défaut
     }
 
     /**
      * Constructeur du plateau de jeu
      */
-    public GameBoard(int width, int height) {
+    public GameBoard(SimulationContext context, int width, int height) {
+        this.context = context;
+        this.random = context.split();
         this.width = width;
         this.height = height;
-        this.board = new int[height][width];
-        this.explosionTime = new long[height][width];
+        allocatePlanes();
         this.powerUps = new ArrayList<>();
-        
-        // Initialiser le gestionnaire de sprites et charger les sprites
-        this.spriteManager = SpriteManager.getInstance();
-        loadSprites();
+        this.timers = new TimingWheel<>(context.getTick());
         
         initializeBoard();
     }
-    
+
     /**
-     * Charge les sprites nécessaires
+     * Alloue les plans de bits aux dimensions du plateau
      */
-    private void loadSprites() {
-        tileSprite = spriteManager.loadSprite("tile");
-        wallSprite = spriteManager.loadSprite("unbreakable_wall");
-        breakableWallSprite = spriteManager.loadSprite("breakable_wall");
-        explosionSprite = spriteManager.loadSprite("explosion");
+    private void allocatePlanes() {
+        hardWalls = new BitPlane(width, height);
+        softWalls = new BitPlane(width, height);
+        bombs = new BitPlane(width, height);
+        explosions = new BitPlane(width, height);
+        explosionTick = new int[width * height];
+        powerUpAt = new PowerUp[width * height];
+        powerUpSlot = new int[width * height];
+        dirtyCells = new BitPlane(width, height);
+        rayPlane = new BitPlane(width, height);
+        shiftPlane = new BitPlane(width, height);
     }
 
     /**
      * Initialise le plateau avec des murs et des murs destructibles
      */
     private void initializeBoard() {
+        layoutVersion++;
+        stateVersion++;
+
         // Initialiser avec des murs sur les bords et en damier
         for (int y = 0; y < height; y++) {
             for (int x = 0; x < width; x++) {
                 if (x == 0 || y == 0 || x == width - 1 || y == height - 1) {
                     // Murs de bordure
-                    board[y][x] = WALL;
+                    setCell(x, y, WALL);
                 } else if (x % 2 == 0 && y % 2 == 0) {
                     // Murs indestructibles en damier
-                    board[y][x] = WALL;
-                } else if (Math.random() < 0.35 &&
+                    setCell(x, y, WALL);
+                } else if (random.nextDouble() < 0.35 &&
                         !(x <= 2 && y <= 2) &&
                         !(x >= width - 3 && y >= height - 3)) {
                     // Murs destructibles aléatoirement (sauf près des spawn)
-                    board[y][x] = DESTRUCTIBLE_WALL;
+                    setCell(x, y, DESTRUCTIBLE_WALL);
                 } else {
-                    board[y][x] = EMPTY;
+                    setCell(x, y, EMPTY);
                 }
             }
         }
@@ -104,72 +141,156 @@ public class GameBoard {
         // Zone joueur 1 (coin supérieur gauche)
         for (int y = 1; y <= 2; y++) {
             for (int x = 1; x <= 2; x++) {
-                board[y][x] = EMPTY;
+                setCell(x, y, EMPTY);
             }
         }
 
         // Zone joueur 2 (coin inférieur droit)
         for (int y = height - 3; y < height - 1; y++) {
             for (int x = width - 3; x < width - 1; x++) {
-                board[y][x] = EMPTY;
+                setCell(x, y, EMPTY);
             }
         }
     }
 
     /**
      * Met à jour l'état du plateau
+     * C'est la simulation qui éteint les explosions : le rendu ne fait que lire l'état,
+     * et une partie sans affichage évolue de la même façon
+     * Seuls les événements arrivés à échéance pendant ce tick sont traités
      */
     public void update() {
-        // Mettre à jour les power-ups
-        Iterator<PowerUp> iterator = powerUps.iterator();
-        while (iterator.hasNext()) {
-            PowerUp powerUp = iterator.next();
-            powerUp.update();
-            if (powerUp.shouldRemove()) {
-                iterator.remove();
-            }
+        long tick = context.getTick();
+        explosionExpiry.expire(tick, explosionEnd);
+        timers.advanceTo(tick, powerUpEvents);
+    }
+
+    /**
+     * Éteint l'explosion d'une case arrivée en fin de liste d'expiration
+     * Une case explosée à nouveau entre-temps reste allumée jusqu'à sa propre échéance
+     */
+    private void endExplosion(int index) {
+        if (explosions.get(index) && context.getTick() - explosionTick[index] >= EXPLOSION_TICKS) {
+            explosions.clear(index);
+            dirtyCells.set(index);
+            stateVersion++;
+        }
+    }
+
+    /**
+     * Traite un événement échu du cycle de vie d'un power-up
+     * Un événement devenu sans objet (power-up déjà ramassé ou réutilisé) est ignoré
+     */
+    private void onPowerUpEvent(PowerUp powerUp, int data) {
+        if ((data >>> 1) != (powerUp.getGeneration() & Integer.MAX_VALUE)) {
+            // Événement d'une utilisation précédente du power-up (rendu à la réserve depuis)
+            return;
+        } else if ((data & 1) == POWERUP_INVINCIBILITY_END) {
+            powerUp.endInvincibility();
+        } else if (powerUp.isActive()) {
+            powerUp.expire();
+            removePowerUp(powerUp);
         }
     }
 
+    /**
+     * Ajoute un power-up au plateau et à l'index des cases
+     * Un power-up déjà présent sur la case est remplacé
+     */
+    private void insertPowerUp(PowerUp powerUp) {
+        if (!contains(powerUp.getX(), powerUp.getY())) return;
+
+        int index = powerUp.getY() * width + powerUp.getX();
+        if (powerUpAt[index] != null) {
+            removePowerUp(powerUpAt[index]);
+        }
+        powerUpAt[index] = powerUp;
+        powerUpSlot[index] = powerUps.size();
+        powerUps.add(powerUp);
+        dirtyCells.set(index);
+        schedulePowerUp(powerUp);
+    }
+
+    /**
+     * Retire un power-up du plateau et le rend à la réserve
+     * Le dernier power-up de la liste prend sa place : le retrait ne parcourt pas la liste
+     */
+    private void removePowerUp(PowerUp powerUp) {
+        int index = powerUp.getY() * width + powerUp.getX();
+        if (powerUpAt[index] != powerUp) return; // Déjà retiré
+
+        powerUpAt[index] = null;
+        int slot = powerUpSlot[index];
+        PowerUp last = powerUps.remove(powerUps.size() - 1);
+        if (last != powerUp) {
+            powerUps.set(slot, last);
+            powerUpSlot[last.getY() * width + last.getX()] = slot;
+        }
+        dirtyCells.set(index);
+        powerUpPool.release(powerUp);
+    }
+
+    /**
+     * Planifie la fin d'invincibilité et la disparition d'un power-up
+     */
+    private void schedulePowerUp(PowerUp powerUp) {
+        long tick = context.getTick();
+        long elapsed = powerUp.getElapsedTime();
+        int generation = powerUp.getGeneration() << 1;
+        timers.schedule(powerUp, generation | POWERUP_INVINCIBILITY_END,
+                tick + SimulationContext.millisToTicks(Math.max(0, PowerUp.INVINCIBILITY_DURATION - elapsed)));
+        timers.schedule(powerUp, generation | POWERUP_EXPIRY,
+                tick + SimulationContext.millisToTicks(Math.max(0, PowerUp.BLINK_DURATION - elapsed)));
+    }
+
+    /**
+     * Vérifie si la position est sur le plateau
+     */
+    private boolean contains(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
     /**
      * Vérifie si un mouvement est valide
      */
     public boolean isValidMove(int x, int y) {
-        return x >= 0 && x < width && y >= 0 && y < height &&
-                (board[y][x] == EMPTY || board[y][x] == EXPLOSION);
+        if (!contains(x, y)) return false;
+        int index = y * width + x;
+        return !hardWalls.get(index) && !softWalls.get(index) && !bombs.get(index);
     }
 
     /**
      * Vérifie si une explosion peut se propager à cette position
      */
     public boolean canExplode(int x, int y) {
-        return x >= 0 && x < width && y >= 0 && y < height &&
-                board[y][x] != WALL;
+        return contains(x, y) && !hardWalls.get(y * width + x);
     }
 
     /**
      * Vérifie si c'est un mur
      */
     public boolean isWall(int x, int y) {
-        return x >= 0 && x < width && y >= 0 && y < height &&
-                (board[y][x] == WALL || board[y][x] == DESTRUCTIBLE_WALL);
+        if (!contains(x, y)) return false;
+        int index = y * width + x;
+        return hardWalls.get(index) || softWalls.get(index);
     }
     
     /**
      * Vérifie s'il y a une bombe à cette position
      */
     public boolean isBomb(int x, int y) {
-        return x >= 0 && x < width && y >= 0 && y < height && board[y][x] == BOMB;
+        return contains(x, y) && bombs.get(y * width + x);
     }
 
     /**
      * Place une bombe sur le plateau
      */
     public void placeBomb(int x, int y) {
-        if (x >= 0 && x < width && y >= 0 && y < height) {
-            if (board[y][x] == EMPTY) {
-                board[y][x] = BOMB;
-            }
+        if (contains(x, y) && getCell(x, y) == EMPTY) {
+            bombs.set(y * width + x);
+            dirtyCells.set(y * width + x);
+            stateVersion++;
+            recordWalkChange(y * width + x);
         }
     }
 
@@ -177,10 +298,11 @@ public class GameBoard {
      * Enlève une bombe d'une position
      */
     public void removeBomb(int x, int y) {
-        if (x >= 0 && x < width && y >= 0 && y < height) {
-            if (board[y][x] == BOMB) {
-                board[y][x] = EMPTY;
-            }
+        if (contains(x, y) && bombs.get(y * width + x)) {
+            bombs.clear(y * width + x);
+            dirtyCells.set(y * width + x);
+            stateVersion++;
+            recordWalkChange(y * width + x);
         }
     }
 
@@ -188,36 +310,49 @@ public class GameBoard {
      * Déclenche une explosion à une position
      */
     public void explode(int x, int y) {
-        if (x >= 0 && x < width && y >= 0 && y < height) {
-            boolean wasDestructibleWall = (board[y][x] == DESTRUCTIBLE_WALL);
+        if (contains(x, y)) {
+            int index = y * width + x;
             
+            // Une case qui bloquait le passage (mur destructible ou bombe) devient accessible
+            if (softWalls.get(index) || bombs.get(index)) {
+                recordWalkChange(index);
+            }
+
             // Si c'était un mur destructible, on le détruit et on peut faire apparaître un power-up
-            if (wasDestructibleWall) {
-                board[y][x] = EMPTY;
+            if (softWalls.get(index)) {
+                softWalls.clear(index);
                 spawnRandomPowerUp(x, y);
             }
             
-            // Détruire les power-ups qui se trouvent sur cette case
-            destroyPowerUpsAt(x, y);
+            // Détruire le power-up qui se trouve sur cette case
+            destroyPowerUpAt(index);
             
             // Si ce n'est pas un mur indestructible, on peut y mettre une explosion
-            if (board[y][x] != WALL) {
-                board[y][x] = EXPLOSION;
-                explosionTime[y][x] = System.currentTimeMillis();
+            if (!hardWalls.get(index)) {
+                bombs.clear(index);
+                explosions.set(index);
+                explosionTick[index] = (int) context.getTick();
+                explosionExpiry.add(index, context.getTick() + EXPLOSION_TICKS);
+                dirtyCells.set(index);
+                stateVersion++;
             }
         }
     }
 
     /**
-     * Détruit les power-ups à une position donnée
+     * Note dans le journal une case dont l'accessibilité a changé
      */
-    private void destroyPowerUpsAt(int x, int y) {
-        Iterator<PowerUp> iterator = powerUps.iterator();
-        while (iterator.hasNext()) {
-            PowerUp powerUp = iterator.next();
-            if (powerUp.getX() == x && powerUp.getY() == y && powerUp.isActive()) {
-                powerUp.tryDestroy();
-            }
+    private void recordWalkChange(int index) {
+        walkChanges[(int) (walkChangeCount++ & (WALK_JOURNAL_SIZE - 1))] = index;
+    }
+
+    /**
+     * Détruit le power-up d'une case, sauf s'il vient d'apparaître (invincible)
+     */
+    private void destroyPowerUpAt(int index) {
+        PowerUp powerUp = powerUpAt[index];
+        if (powerUp != null && powerUp.isActive() && powerUp.tryDestroy()) {
+            removePowerUp(powerUp);
         }
     }
 
@@ -225,7 +360,7 @@ public class GameBoard {
      * Fait apparaître un power-up aléatoire à la position donnée
      */
     private void spawnRandomPowerUp(int x, int y) {
-        if (Math.random() < POWERUP_SPAWN_CHANCE) {
+        if (random.nextDouble() < POWERUP_SPAWN_CHANCE) {
             // Choisir un type de power-up aléatoire
             PowerUp.Type[] powerUpTypes = {
                 PowerUp.Type.BOMB_UP,
@@ -235,16 +370,21 @@ public class GameBoard {
             
             // Sélectionner un type aléatoire (avec une plus faible chance pour le crâne)
             PowerUp.Type selectedType;
-            if (Math.random() < 0.15) { // 15% de chance d'avoir un crâne
+            if (random.nextDouble() < 0.15) { // 15% de chance d'avoir un crâne
                 selectedType = PowerUp.Type.SKULL;
             } else {
                 // Choisir parmi les autres power-ups (sauf le crâne)
-                selectedType = powerUpTypes[(int)(Math.random() * (powerUpTypes.length - 1))];
+                selectedType = powerUpTypes[random.nextInt(powerUpTypes.length - 1)];
             }
             
-            // Créer et ajouter le power-up
-            PowerUp powerUp = new PowerUp(x, y, selectedType);
-            powerUps.add(powerUp);
+            // Réutiliser un power-up de la réserve, ou en créer un
+            PowerUp powerUp = powerUpPool.poll();
+            if (powerUp != null) {
+                powerUp.reinitialize(x, y, selectedType);
+            } else {
+                powerUp = new PowerUp(context, x, y, selectedType);
+            }
+            insertPowerUp(powerUp);
         }
     }
 
@@ -252,191 +392,262 @@ public class GameBoard {
      * Vérifie s'il y a une explosion à cette position
      */
     public boolean isExplosion(int x, int y) {
-        return x >= 0 && x < width && y >= 0 && y < height &&
-                board[y][x] == EXPLOSION;
+        return contains(x, y) && explosions.get(y * width + x);
     }
 
     /**
      * Vérifie s'il y a un power-up à cette position
      */
     public PowerUp getPowerUpAt(int x, int y) {
-        return powerUps.stream()
-                .filter(p -> p.getX() == x && p.getY() == y && p.isActive())
-                .findFirst()
-                .orElse(null);
+        if (!contains(x, y)) return null;
+
+        PowerUp powerUp = powerUpAt[y * width + x];
+        return powerUp != null && powerUp.isActive() ? powerUp : null;
     }
 
     /**
      * Collecte un power-up à la position donnée
+     * Le power-up retourné est rendu à la réserve : il n'est valable que pour lire son type immédiatement
      */
     public PowerUp collectPowerUp(int x, int y) {
         PowerUp powerUp = getPowerUpAt(x, y);
         if (powerUp != null) {
             powerUp.collect();
+            removePowerUp(powerUp);
             return powerUp;
         }
         return null;
     }
 
     /**
-     * Dessine le plateau de jeu
+     * Retourne le type de la case (EMPTY, WALL, DESTRUCTIBLE_WALL, BOMB ou EXPLOSION)
      */
-    public void render(GraphicsContext gc, int tileSize) {
-        long currentTime = System.currentTimeMillis();
+    public int getCell(int x, int y) {
+        int index = y * width + x;
+        if (hardWalls.get(index)) return WALL;
+        if (softWalls.get(index)) return DESTRUCTIBLE_WALL;
+        if (bombs.get(index)) return BOMB;
+        if (explosions.get(index)) return EXPLOSION;
+        return EMPTY;
+    }
 
-        // Dessiner les cases du plateau
-        for (int y = 0; y < height; y++) {
-            for (int x = 0; x < width; x++) {
-                int cellX = x * tileSize;
-                int cellY = y * tileSize;
-
-                switch (board[y][x]) {
-                    case EMPTY:
-                        // Utiliser le sprite de tuile si disponible
-                        if (tileSprite != null) {
-                            gc.drawImage(tileSprite, cellX, cellY, tileSize, tileSize);
-                        } else {
-                            // Fallback: Sol avec effet de damier subtil
-                            Color grassColor = ((x + y) % 2 == 0) ? Color.LIGHTGREEN : Color.LIGHTGREEN.darker();
-                            gc.setFill(grassColor);
-                            gc.fillRect(cellX, cellY, tileSize, tileSize);
-                        }
-                        break;
-
-                    case WALL:
-                        // Utiliser le sprite de mur si disponible
-                        if (wallSprite != null) {
-                            gc.drawImage(wallSprite, cellX, cellY, tileSize, tileSize);
-                        } else {
-                            // Fallback: Mur indestructible avec effet 3D
-                            gc.setFill(Color.DARKGRAY);
-                            gc.fillRect(cellX, cellY, tileSize, tileSize);
-
-                            // Effet de relief
-                            gc.setFill(Color.LIGHTGRAY);
-                            gc.fillRect(cellX, cellY, tileSize - 2, tileSize - 2);
-                            gc.setFill(Color.GRAY);
-                            gc.fillRect(cellX + 2, cellY + 2, tileSize - 4, tileSize - 4);
-
-                            gc.setStroke(Color.BLACK);
-                            gc.setLineWidth(2);
-                            gc.strokeRect(cellX, cellY, tileSize, tileSize);
-                        }
-                        break;
-
-                    case DESTRUCTIBLE_WALL:
-                        // Utiliser le sprite de mur destructible si disponible
-                        if (breakableWallSprite != null) {
-                            gc.drawImage(breakableWallSprite, cellX, cellY, tileSize, tileSize);
-                        } else {
-                            // Fallback: Mur destructible avec texture
-                            gc.setFill(Color.BROWN);
-                            gc.fillRect(cellX, cellY, tileSize, tileSize);
-
-                            // Texture de brique
-                            gc.setStroke(Color.DARKRED);
-                            gc.setLineWidth(1);
-
-                            // Lignes horizontales
-                            for (int i = 0; i < 3; i++) {
-                                gc.strokeLine(cellX, cellY + i * tileSize/3, cellX + tileSize, cellY + i * tileSize/3);
-                            }
-
-                            // Lignes verticales décalées
-                            for (int i = 0; i < 2; i++) {
-                                int offset = (i % 2 == 0) ? 0 : tileSize/2;
-                                gc.strokeLine(cellX + tileSize/2 + offset, cellY + i * tileSize/3,
-                                        cellX + tileSize/2 + offset, cellY + (i + 1) * tileSize/3);
-                            }
-
-                            gc.setStroke(Color.BLACK);
-                            gc.setLineWidth(2);
-                            gc.strokeRect(cellX, cellY, tileSize, tileSize);
-                        }
-                        break;
-
-                    case BOMB:
-                        // Sol visible sous la bombe
-                        if (tileSprite != null) {
-                            gc.drawImage(tileSprite, cellX, cellY, tileSize, tileSize);
-                        } else {
-                            Color grassColorBomb = ((x + y) % 2 == 0) ? Color.LIGHTGREEN : Color.LIGHTGREEN.darker();
-                            gc.setFill(grassColorBomb);
-                            gc.fillRect(cellX, cellY, tileSize, tileSize);
-                        }
-                        break;
-
-                    case EXPLOSION:
-                        // Vérifier si l'explosion doit disparaître
-                        if (currentTime - explosionTime[y][x] > EXPLOSION_DURATION) {
-                            board[y][x] = EMPTY;
-                            if (tileSprite != null) {
-                                gc.drawImage(tileSprite, cellX, cellY, tileSize, tileSize);
-                            } else {
-                                Color grassColorExp = ((x + y) % 2 == 0) ? Color.LIGHTGREEN : Color.LIGHTGREEN.darker();
-                                gc.setFill(grassColorExp);
-                                gc.fillRect(cellX, cellY, tileSize, tileSize);
-                            }
-                        } else {
-                            // Utiliser le sprite d'explosion si disponible
-                            if (explosionSprite != null) {
-                                // Animation simple: faire pulser l'explosion
-                                double progress = (double)(currentTime - explosionTime[y][x]) / EXPLOSION_DURATION;
-                                int size = (int)(tileSize * (1 - progress * 0.2));
-                                int offset = (tileSize - size) / 2;
-                                gc.drawImage(explosionSprite, cellX + offset, cellY + offset, size, size);
-                            } else {
-                                // Fallback: Animation d'explosion
-                                double progress = (double)(currentTime - explosionTime[y][x]) / EXPLOSION_DURATION;
-
-                                // Couleur qui évolue
-                                Color explosionColor = Color.YELLOW.interpolate(Color.ORANGE, progress);
-                                gc.setFill(explosionColor);
-                                gc.fillRect(cellX, cellY, tileSize, tileSize);
-
-                                // Effet d'explosion animé avec étincelles
-                                gc.setFill(Color.RED);
-                                int explosionSize = (int)(tileSize * (1 - progress * 0.3));
-                                int offset = (tileSize - explosionSize) / 2;
-                                gc.fillRect(cellX + offset, cellY + offset, explosionSize, explosionSize);
-
-                                // Étincelles
-                                gc.setFill(Color.WHITE);
-                                for (int i = 0; i < 3; i++) {
-                                    int sparkleX = cellX + (int)(Math.random() * tileSize);
-                                    int sparkleY = cellY + (int)(Math.random() * tileSize);
-                                    gc.fillOval(sparkleX, sparkleY, 3, 3);
-                                }
-                            }
-                        }
-                        break;
-                }
+    /**
+     * Remplace le contenu d'une case (une valeur inconnue donne une case vide)
+     */
+    private void setCell(int x, int y, int type) {
+        int index = y * width + x;
+        hardWalls.set(index, type == WALL);
+        softWalls.set(index, type == DESTRUCTIBLE_WALL);
+        bombs.set(index, type == BOMB);
+        explosions.set(index, type == EXPLOSION);
+    }
 
-                // Grille subtile (uniquement si on n'utilise pas de sprites)
-                if (tileSprite == null) {
-                    gc.setStroke(Color.DARKGREEN.darker());
-                    gc.setLineWidth(0.5);
-                    gc.strokeRect(cellX, cellY, tileSize, tileSize);
-                }
-            }
+    /**
+     * Parcourt les cases d'un type donné sans examiner les autres (pour le rendu)
+     * @param type WALL, DESTRUCTIBLE_WALL, BOMB ou EXPLOSION
+     * @param action Action appliquée à l'indice (y * largeur + x) de chaque case
+     */
+    public void forEachCell(int type, IntConsumer action) {
+        BitPlane plane;
+        switch (type) {
+            case WALL: plane = hardWalls; break;
+            case DESTRUCTIBLE_WALL: plane = softWalls; break;
+            case BOMB: plane = bombs; break;
+            case EXPLOSION: plane = explosions; break;
+            default: return;
+        }
+        for (int index = plane.nextSetBit(0); index >= 0; index = plane.nextSetBit(index + 1)) {
+            action.accept(index);
         }
+    }
 
-        // Dessiner les power-ups
-        for (PowerUp powerUp : powerUps) {
-            if (powerUp.isActive()) {
-                powerUp.render(gc, tileSize);
+    /**
+     * Signale qu'une case doit être redessinée (entité qui entre ou sort de la case)
+     */
+    public void markDirty(int x, int y) {
+        if (contains(x, y)) {
+            dirtyCells.set(y * width + x);
+        }
+    }
+
+    /**
+     * Transfère les cases modifiées depuis le dernier appel dans un plan, puis les oublie
+     * Il ne doit y avoir qu'un seul lecteur (la publication des instantanés, voir SnapshotBuffer)
+     * @param out Plan auquel les cases modifiées sont ajoutées
+     */
+    public void collectDirtyCells(BitPlane out) {
+        out.or(dirtyCells);
+        dirtyCells.clearAll();
+    }
+
+    /**
+     * Copie l'état des cases (pour un instantané de la partie)
+     */
+    void copyCells(BitPlane hardOut, BitPlane softOut, BitPlane bombOut, BitPlane explosionOut, int[] explosionTickOut) {
+        hardOut.copyFrom(hardWalls);
+        softOut.copyFrom(softWalls);
+        bombOut.copyFrom(bombs);
+        explosionOut.copyFrom(explosions);
+        // Seules les cases en explosion ont un instant utile : pas de copie du tableau entier sur les grands plateaux
+        for (int index = explosions.nextSetBit(0); index >= 0; index = explosions.nextSetBit(index + 1)) {
+            explosionTickOut[index] = explosionTick[index];
+        }
+    }
+
+    /**
+     * Copie les murs et les bombes (pour l'état compact de la recherche, voir SearchState)
+     */
+    void copyPlanes(BitPlane hardOut, BitPlane softOut, BitPlane bombOut) {
+        hardOut.copyFrom(hardWalls);
+        softOut.copyFrom(softWalls);
+        bombOut.copyFrom(bombs);
+    }
+
+    /**
+     * Retourne le numéro de la disposition actuelle des murs indestructibles
+     * Il change quand le plateau est régénéré ou qu'un niveau est chargé
+     */
+    public int getLayoutVersion() {
+        return layoutVersion;
+    }
+
+    /**
+     * Retourne le numéro de l'état des cases
+     * Il change à chaque bombe posée ou retirée, explosion allumée ou éteinte et nouvelle disposition
+     */
+    public int getStateVersion() {
+        return stateVersion;
+    }
+
+    /**
+     * Retourne le nombre total de changements d'accessibilité notés dans le journal
+     * Un lecteur retient ce nombre et relit ensuite les changements suivants avec getWalkChange
+     */
+    public long getWalkChangeCount() {
+        return walkChangeCount;
+    }
+
+    /**
+     * Retourne la case (y * largeur + x) d'un changement d'accessibilité
+     * Seuls les derniers changements sont conservés (voir isWalkChangeAvailable) ;
+     * une nouvelle disposition (getLayoutVersion) n'est pas notée dans le journal
+     * @param sequence Numéro du changement, de 0 à getWalkChangeCount() - 1
+     */
+    public int getWalkChange(long sequence) {
+        return walkChanges[(int) (sequence & (WALK_JOURNAL_SIZE - 1))];
+    }
+
+    /**
+     * Indique si les changements à partir de ce numéro sont encore dans le journal
+     */
+    public boolean isWalkChangeAvailable(long sequence) {
+        return walkChangeCount - sequence <= WALK_JOURNAL_SIZE;
+    }
+
+    /**
+     * Retourne le tick où la case a explosé pour la dernière fois (indice y * largeur + x)
+     */
+    int explosionTickAt(int index) {
+        return explosionTick[index];
+    }
+
+    /**
+     * Retourne l'instant où la case a explosé pour la dernière fois
+     */
+    public long getExplosionTime(int x, int y) {
+        return explosionTick[y * width + x] * 1000L / SimulationContext.TICKS_PER_SECOND;
+    }
+
+    /**
+     * Crée un plan de bits aux dimensions du plateau (pour les requêtes ci-dessous)
+     */
+    public BitPlane newPlane() {
+        return new BitPlane(width, height);
+    }
+
+    /**
+     * Calcule les cases accessibles à pied (ni mur, ni mur destructible, ni bombe)
+     * @param out Plan de destination
+     */
+    public void walkableMask(BitPlane out) {
+        out.setAll();
+        out.andNot(hardWalls);
+        out.andNot(softWalls);
+        out.andNot(bombs);
+    }
+
+    /**
+     * Calcule les cases que toucheraient des explosions parties des cases sources
+     * Les branches s'arrêtent aux murs et s'arrêtent après un mur destructible ou une bombe,
+     * comme lors de la résolution des explosions
+     * @param sources Centres des explosions
+     * @param range Portée des branches
+     * @param out Plan de destination (différent de sources)
+     */
+    public void blastMask(BitPlane sources, int range, BitPlane out) {
+        out.copyFrom(sources);
+
+        for (int dir = 0; dir < 4; dir++) {
+            int dx = dir == 0 ? 1 : dir == 1 ? -1 : 0;
+            int dy = dir == 2 ? 1 : dir == 3 ? -1 : 0;
+
+            BitPlane ray = rayPlane;
+            BitPlane shifted = shiftPlane;
+            ray.copyFrom(sources);
+            for (int i = 1; i <= range; i++) {
+                ray.shiftInto(dx, dy, shifted);
+                shifted.andNot(hardWalls);
+                if (shifted.isEmpty()) break;
+
+                out.or(shifted);
+
+                // Les branches ne traversent ni les murs destructibles ni les bombes
+                shifted.andNot(softWalls);
+                shifted.andNot(bombs);
+
+                BitPlane swap = ray;
+                ray = shifted;
+                shifted = swap;
             }
         }
     }
 
+    /**
+     * Calcule les cases dangereuses : explosions en cours et zones de souffle des bombes posées
+     * @param range Portée supposée des bombes
+     * @param out Plan de destination
+     */
+    public void dangerMask(int range, BitPlane out) {
+        blastMask(bombs, range, out);
+        out.or(explosions);
+    }
+
     /**
      * Remet le plateau à zéro pour une nouvelle partie
      */
     public void reset() {
-        powerUps.clear();
+        releasePowerUps();
+        timers.clear();
+        explosionExpiry.clear();
         initializeBoard();
     }
 
+    /**
+     * Rend tous les power-ups du plateau à la réserve
+     */
+    private void releasePowerUps() {
+        for (PowerUp powerUp : powerUps) {
+            powerUpPool.release(powerUp);
+        }
+        powerUps.clear();
+        Arrays.fill(powerUpAt, null);
+    }
+
+    /**
+     * Retourne le contexte de simulation du plateau
+     */
+    public SimulationContext getContext() { return context; }
+
     /**
      * Retourne la largeur du plateau
      */
@@ -447,16 +658,30 @@ public class GameBoard {
      */
     public int getHeight() { return height; }
 
+    /**
+     * Retourne la réserve des power-ups du plateau
+     */
+    EntityPool<PowerUp> getPowerUpPool() { return powerUpPool; }
+
     /**
      * Retourne la liste des power-ups (pour les tests)
      */
     public List<PowerUp> getPowerUps() { return new ArrayList<>(powerUps); }
 
+    /**
+     * Parcourt les power-ups sans copier la liste (pour le rendu)
+     */
+    public void forEachPowerUp(Consumer<PowerUp> action) {
+        for (PowerUp powerUp : powerUps) {
+            action.accept(powerUp);
+        }
+    }
+
     /**
      * Ajoute un power-up manuellement (pour les tests ou l'éditeur)
      */
     public void addPowerUp(PowerUp powerUp) {
-        powerUps.add(powerUp);
+        insertPowerUp(powerUp);
     }
 
     /**
@@ -471,15 +696,59 @@ public class GameBoard {
         
         this.height = levelData.length;
         this.width = levelData[0].length;
-        this.board = new int[height][width];
-        this.explosionTime = new long[height][width];
-        this.powerUps.clear();
+        allocatePlanes();
+        releasePowerUps();
+        this.layoutVersion++;
+        this.stateVersion++;
+        this.timers.clear();
+        this.explosionExpiry.clear();
         
         // Copier les données du niveau
         for (int y = 0; y < height; y++) {
             for (int x = 0; x < width; x++) {
-                board[y][x] = levelData[y][x];
+                setCell(x, y, levelData[y][x]);
+            }
+        }
+        scheduleLoadedExplosions();
+    }
+
+    /**
+     * Planifie l'extinction des explosions présentes dans un niveau chargé
+     * Elles durent comme une explosion qui viendrait de se déclencher
+     */
+    private void scheduleLoadedExplosions() {
+        long tick = context.getTick();
+        for (int index = explosions.nextSetBit(0); index >= 0; index = explosions.nextSetBit(index + 1)) {
+            explosionTick[index] = (int) tick;
+            explosionExpiry.add(index, tick + EXPLOSION_TICKS);
+        }
+    }
+
+    /**
+     * Charge un niveau lu depuis un fichier (voir LevelFormat)
+     * @param level Le niveau
+     */
+    public void loadLevel(LevelData level) {
+        this.height = level.getHeight();
+        this.width = level.getWidth();
+        allocatePlanes();
+        releasePowerUps();
+        this.layoutVersion++;
+        this.stateVersion++;
+        this.timers.clear();
+        this.explosionExpiry.clear();
+
+        // Les plans viennent d'être alloués vides : seules les cases non vides sont écrites
+        byte[] cells = level.getCells();
+        for (int index = 0; index < cells.length; index++) {
+            switch (cells[index]) {
+                case WALL: hardWalls.set(index); break;
+                case DESTRUCTIBLE_WALL: softWalls.set(index); break;
+                case BOMB: bombs.set(index); break;
+                case EXPLOSION: explosions.set(index); break;
+                default: break;
             }
         }
+        scheduleLoadedExplosions();
     }
 }
\ No newline at end of file
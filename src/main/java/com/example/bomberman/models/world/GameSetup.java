@@ -0,0 +1,108 @@
+package com.example.bomberman.models.world;
+
+/**
+ * Paramètres de création d'une partie, entièrement en mémoire : plateau, positions de départ,
+ * adversaire (joueur ou bot), contrôleurs des joueurs et graine aléatoire
+ * Par défaut : plateau standard généré, deux joueurs humains, graine aléatoire
+ *
+ * Exemple : Game game = new GameSetup().level(level).botOpponent(2).seed(42).build();
+ */
+public class GameSetup {
+    /** Niveau du bot expert, celui qui dispose du plus grand budget de recherche (voir MctsController) */
+    public static final int EXPERT = 4;
+
+    private LevelData level;
+    private int botDifficulty;
+    private final PlayerController[] controllers = new PlayerController[2];
+    private boolean seeded;
+    private long seed;
+
+    /**
+     * Joue sur un niveau donné (plateau et positions de départ) au lieu du plateau standard
+     * @param level Le niveau, ou null pour le plateau standard
+     */
+    public GameSetup level(LevelData level) {
+        this.level = level;
+        return this;
+    }
+
+    /**
+     * Remplace le joueur 2 par un bot
+     * @param difficultyLevel Niveau de difficulté du bot (1-3, ou EXPERT)
+     */
+    public GameSetup botOpponent(int difficultyLevel) {
+        this.botDifficulty = Math.max(1, Math.min(EXPERT, difficultyLevel));
+        return this;
+    }
+
+    /**
+     * Remplace le contrôleur par défaut d'un joueur (clavier, ou bot pour un adversaire bot)
+     * @param playerId Identifiant du joueur (1 ou 2)
+     * @param controller Le contrôleur
+     */
+    public GameSetup controller(int playerId, PlayerController controller) {
+        controllers[playerId - 1] = controller;
+        return this;
+    }
+
+    /**
+     * Rend la partie reproductible, décisions des bots comprises
+     * @param seed Graine du générateur aléatoire de la simulation
+     */
+    public GameSetup seed(long seed) {
+        this.seeded = true;
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Crée la partie (une BotGame si l'adversaire est un bot)
+     */
+    public Game build() {
+        return botDifficulty > 0 ? new BotGame(this) : new Game(this);
+    }
+
+    /**
+     * Retourne une copie de ces paramètres
+     */
+    GameSetup copy() {
+        GameSetup copy = new GameSetup();
+        copy.level = level;
+        copy.botDifficulty = botDifficulty;
+        System.arraycopy(controllers, 0, copy.controllers, 0, controllers.length);
+        copy.seeded = seeded;
+        copy.seed = seed;
+        return copy;
+    }
+
+    /**
+     * Crée l'horloge et le générateur aléatoire de la partie
+     */
+    SimulationContext createContext() {
+        return seeded ? new SimulationContext(seed) : new SimulationContext();
+    }
+
+    /**
+     * Retourne le contrôleur d'un joueur, ou celui par défaut s'il n'a pas été choisi
+     */
+    PlayerController getController(int playerId) {
+        PlayerController controller = controllers[playerId - 1];
+        if (controller != null) return controller;
+        if (playerId == 2 && botDifficulty > 0) return createBotController();
+        return new HumanController();
+    }
+
+    /**
+     * Crée le contrôleur du bot : recherche MCTS dont le budget par décision dépend de la difficulté
+     * Dans une partie reproductible, la recherche est synchrone : mêmes décisions à chaque exécution
+     */
+    PlayerController createBotController() {
+        MctsController controller = new MctsController(MctsController.rolloutsFor(botDifficulty));
+        controller.setSynchronous(seeded);
+        return controller;
+    }
+
+    // Getters
+    LevelData getLevel() { return level; }
+    int getBotDifficulty() { return botDifficulty; }
+}
@@ -0,0 +1,317 @@
+package com.example.bomberman.models.world;
+
+import com.example.bomberman.models.entities.Bomb;
+import com.example.bomberman.models.entities.MovableEntity;
+import com.example.bomberman.models.entities.Player;
+import com.example.bomberman.models.entities.PowerUp;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Instantané de l'état d'une partie, copié par le thread de simulation et lu par le rendu
+ * Un instantané n'est écrit que par la simulation et n'est lu qu'une fois publié (voir SnapshotBuffer) :
+ * le rendu ne touche jamais aux objets de la partie
+ */
+public class GameSnapshot {
+
+    /**
+     * État d'un joueur au moment de l'instantané
+     */
+    public static final class PlayerState {
+        private int playerId;
+        private int x, y;
+        private int previousX, previousY;
+        private long moveTick;
+        private Player.Direction facing;
+        private boolean alive;
+        private boolean invincible;
+        private boolean skull;
+        private double animationOffset;
+        private int lives;
+        private int bombRange;
+        private int maxBombs;
+        private int currentBombs;
+
+        private void copy(Player player) {
+            playerId = player.getPlayerId();
+            x = player.getX();
+            y = player.getY();
+            previousX = player.getPreviousX();
+            previousY = player.getPreviousY();
+            moveTick = player.getMoveTick();
+            facing = player.getFacing();
+            alive = player.isAlive();
+            invincible = player.isInvincible();
+            skull = player.hasSkull();
+            animationOffset = player.getAnimationOffset();
+            lives = player.getLives();
+            bombRange = player.getBombRange();
+            maxBombs = player.getMaxBombs();
+            currentBombs = player.getCurrentBombs();
+        }
+
+        // Getters
+        public int getPlayerId() { return playerId; }
+        public int getX() { return x; }
+        public int getY() { return y; }
+        public int getPreviousX() { return previousX; }
+        public int getPreviousY() { return previousY; }
+        public Player.Direction getFacing() { return facing; }
+        public boolean isAlive() { return alive; }
+        public boolean isInvincible() { return invincible; }
+        public boolean hasSkull() { return skull; }
+        public double getAnimationOffset() { return animationOffset; }
+        public int getLives() { return lives; }
+        public int getBombRange() { return bombRange; }
+        public int getMaxBombs() { return maxBombs; }
+        public int getCurrentBombs() { return currentBombs; }
+
+        /**
+         * Abscisse affichée, en cases, glissant de la case de départ vers la case actuelle
+         * @param renderTick Instant affiché, en ticks
+         */
+        public double getRenderX(double renderTick) {
+            return MovableEntity.interpolate(previousX, x, moveTick, renderTick);
+        }
+
+        /**
+         * Ordonnée affichée, en cases, glissant de la case de départ vers la case actuelle
+         * @param renderTick Instant affiché, en ticks
+         */
+        public double getRenderY(double renderTick) {
+            return MovableEntity.interpolate(previousY, y, moveTick, renderTick);
+        }
+    }
+
+    /**
+     * État d'une bombe posée au moment de l'instantané
+     */
+    public static final class BombState {
+        private int x, y;
+        private long elapsedTime;
+        private long timeLeft;
+
+        private void copy(Bomb bomb) {
+            x = bomb.getX();
+            y = bomb.getY();
+            elapsedTime = bomb.getElapsedTime();
+            timeLeft = bomb.getTimeLeft();
+        }
+
+        // Getters
+        public int getX() { return x; }
+        public int getY() { return y; }
+        public long getElapsedTime() { return elapsedTime; }
+        public long getTimeLeft() { return timeLeft; }
+    }
+
+    /**
+     * État d'un power-up visible au moment de l'instantané
+     */
+    public static final class PowerUpState {
+        private int x, y;
+        private PowerUp.Type type;
+        private long elapsedTime;
+
+        private void copy(PowerUp powerUp) {
+            x = powerUp.getX();
+            y = powerUp.getY();
+            type = powerUp.getType();
+            elapsedTime = powerUp.getElapsedTime();
+        }
+
+        // Getters
+        public int getX() { return x; }
+        public int getY() { return y; }
+        public PowerUp.Type getType() { return type; }
+        public long getElapsedTime() { return elapsedTime; }
+    }
+
+    // Numéro de l'instantané (0 : jamais écrit)
+    private long sequence;
+    private long tick;
+    private long timeMillis;
+    // Instant de la copie (System.nanoTime), pour l'interpolation du rendu
+    private long captureNanos;
+
+    // Plateau
+    private int boardGeneration;
+    private int layoutVersion;
+    private int width, height;
+    private BitPlane hardWalls;
+    private BitPlane softWalls;
+    private BitPlane bombCells;
+    private BitPlane explosions;
+    private int[] explosionTick;
+    private BitPlane dirtyCells;
+
+    // Entités
+    private final PlayerState player1 = new PlayerState();
+    private final PlayerState player2 = new PlayerState();
+    private boolean hasPlayer1, hasPlayer2;
+    private BombState[] bombs = new BombState[0];
+    private int bombCount;
+    private PowerUpState[] powerUps = new PowerUpState[0];
+    private int powerUpCount;
+    private final Consumer<Bomb> bombCapture = this::addBomb;
+    private final Consumer<PowerUp> powerUpCapture = this::addPowerUp;
+
+    // Scores
+    private int player1Score;
+    private int player2Score;
+
+    // Réutilisations des réserves d'entités (pour les métriques)
+    private long poolHits;
+    private long poolMisses;
+
+    /**
+     * Copie l'état de la partie (thread de simulation uniquement)
+     * @param game La partie
+     * @param sequence Numéro de l'instantané
+     * @param boardGeneration Numéro du plateau (change quand la partie change de plateau)
+     */
+    void capture(Game game, long sequence, int boardGeneration) {
+        GameBoard board = game.getBoard();
+        this.sequence = sequence;
+        this.tick = game.getContext().getTick();
+        this.timeMillis = game.getContext().currentTimeMillis();
+        this.captureNanos = System.nanoTime();
+        this.boardGeneration = boardGeneration;
+
+        if (hardWalls == null || width != board.getWidth() || height != board.getHeight()) {
+            width = board.getWidth();
+            height = board.getHeight();
+            hardWalls = new BitPlane(width, height);
+            softWalls = new BitPlane(width, height);
+            bombCells = new BitPlane(width, height);
+            explosions = new BitPlane(width, height);
+            explosionTick = new int[width * height];
+            dirtyCells = new BitPlane(width, height);
+        }
+        layoutVersion = board.getLayoutVersion();
+        board.copyCells(hardWalls, softWalls, bombCells, explosions, explosionTick);
+
+        hasPlayer1 = game.getPlayer1() != null;
+        if (hasPlayer1) player1.copy(game.getPlayer1());
+        hasPlayer2 = game.getPlayer2() != null;
+        if (hasPlayer2) player2.copy(game.getPlayer2());
+
+        bombCount = 0;
+        game.forEachBomb(bombCapture);
+
+        powerUpCount = 0;
+        board.forEachPowerUp(powerUpCapture);
+
+        player1Score = game.getPlayer1Score();
+        player2Score = game.getPlayer2Score();
+
+        poolHits = game.getPoolHits();
+        poolMisses = game.getPoolMisses();
+    }
+
+    private void addBomb(Bomb bomb) {
+        if (!bomb.isActive() || bomb.hasExploded()) return;
+        if (bombCount == bombs.length) {
+            bombs = grow(bombs, BombState::new);
+        }
+        bombs[bombCount++].copy(bomb);
+    }
+
+    private void addPowerUp(PowerUp powerUp) {
+        if (!powerUp.isActive()) return;
+        if (powerUpCount == powerUps.length) {
+            powerUps = grow(powerUps, PowerUpState::new);
+        }
+        powerUps[powerUpCount++].copy(powerUp);
+    }
+
+    private static <T> T[] grow(T[] array, Supplier<T> factory) {
+        T[] grown = Arrays.copyOf(array, Math.max(8, array.length * 2));
+        for (int i = array.length; i < grown.length; i++) {
+            grown[i] = factory.get();
+        }
+        return grown;
+    }
+
+    /**
+     * Retourne le type de la case (mêmes valeurs que GameBoard.getCell)
+     */
+    public int getCell(int x, int y) {
+        int index = y * width + x;
+        if (hardWalls.get(index)) return GameBoard.WALL;
+        if (softWalls.get(index)) return GameBoard.DESTRUCTIBLE_WALL;
+        if (bombCells.get(index)) return GameBoard.BOMB;
+        if (explosions.get(index)) return GameBoard.EXPLOSION;
+        return GameBoard.EMPTY;
+    }
+
+    /**
+     * Parcourt les cases d'un type donné (voir GameBoard.forEachCell)
+     */
+    public void forEachCell(int type, IntConsumer action) {
+        BitPlane plane;
+        switch (type) {
+            case GameBoard.WALL: plane = hardWalls; break;
+            case GameBoard.DESTRUCTIBLE_WALL: plane = softWalls; break;
+            case GameBoard.BOMB: plane = bombCells; break;
+            case GameBoard.EXPLOSION: plane = explosions; break;
+            default: return;
+        }
+        for (int index = plane.nextSetBit(0); index >= 0; index = plane.nextSetBit(index + 1)) {
+            action.accept(index);
+        }
+    }
+
+    /**
+     * Retourne l'instant où la case a explosé pour la dernière fois
+     */
+    public long getExplosionTime(int x, int y) {
+        return explosionTick[y * width + x] * 1000L / SimulationContext.TICKS_PER_SECOND;
+    }
+
+    /**
+     * Cases modifiées depuis le dernier instantané lu par le rendu
+     */
+    public BitPlane getDirtyCells() {
+        return dirtyCells;
+    }
+
+    /**
+     * Retourne la fraction de tick écoulée depuis la copie de l'instantané (entre 0 et 1)
+     * Le rendu affiche l'instant getTick() + alpha pour que les déplacements restent fluides entre deux ticks
+     * @param nowNanos Instant courant (System.nanoTime)
+     */
+    public double getAlpha(long nowNanos) {
+        double alpha = (nowNanos - captureNanos) * SimulationContext.TICKS_PER_SECOND / 1_000_000_000.0;
+        return Math.max(0, Math.min(1, alpha));
+    }
+
+    /**
+     * Crée un plan de bits aux dimensions du plateau
+     */
+    public BitPlane newPlane() {
+        return new BitPlane(width, height);
+    }
+
+    // Getters
+    public long getSequence() { return sequence; }
+    public long getTick() { return tick; }
+    public long currentTimeMillis() { return timeMillis; }
+    public int getBoardGeneration() { return boardGeneration; }
+    public int getLayoutVersion() { return layoutVersion; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public PlayerState getPlayer1() { return hasPlayer1 ? player1 : null; }
+    public PlayerState getPlayer2() { return hasPlayer2 ? player2 : null; }
+    public int getBombCount() { return bombCount; }
+    public BombState getBomb(int index) { return bombs[index]; }
+    public int getPowerUpCount() { return powerUpCount; }
+    public PowerUpState getPowerUp(int index) { return powerUps[index]; }
+    public int getPlayer1Score() { return player1Score; }
+    public int getPlayer2Score() { return player2Score; }
+    public long getPoolHits() { return poolHits; }
+    public long getPoolMisses() { return poolMisses; }
+}
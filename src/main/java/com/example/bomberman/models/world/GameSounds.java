@@ -0,0 +1,49 @@
+package com.example.bomberman.models.world;
+
+import com.example.bomberman.service.SoundManager;
+
+import java.util.function.Consumer;
+
+/**
+ * Point d'accès aux effets sonores pour la simulation
+ * Par défaut les sons sont joués par le SoundManager ; une partie sans affichage peut les couper
+ */
+public final class GameSounds {
+    private static final Consumer<String> SOUND_MANAGER = soundName -> SoundManager.getInstance().playSound(soundName);
+    private static final Consumer<String> SILENT = soundName -> { };
+
+    private static Consumer<String> sink = SOUND_MANAGER;
+
+    private GameSounds() {
+    }
+
+    /**
+     * Joue un effet sonore
+     * @param soundName Nom du son
+     */
+    public static void play(String soundName) {
+        sink.accept(soundName);
+    }
+
+    /**
+     * Définit la destination des effets sonores
+     * @param newSink Destination des sons (null pour les couper)
+     */
+    public static void setSink(Consumer<String> newSink) {
+        sink = newSink != null ? newSink : SILENT;
+    }
+
+    /**
+     * Coupe les effets sonores (parties sans affichage)
+     */
+    public static void mute() {
+        sink = SILENT;
+    }
+
+    /**
+     * Rétablit la lecture des sons par le SoundManager
+     */
+    public static void useSoundManager() {
+        sink = SOUND_MANAGER;
+    }
+}
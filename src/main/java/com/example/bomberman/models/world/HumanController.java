@@ -0,0 +1,17 @@
+package com.example.bomberman.models.world;
+
+import com.example.bomberman.models.entities.Player;
+
+/**
+ * Contrôleur d'un joueur humain : déplace le joueur selon les commandes qu'il maintient
+ * Les bombes et la capacité spéciale sont déclenchées à l'appui de la touche (voir Game.handleCommandPressed)
+ */
+public class HumanController implements PlayerController {
+
+    @Override
+    public void control(Game game, Player player) {
+        if (!game.isGameRunning()) return;
+
+        game.processPlayerMovement(player);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.bomberman.models.world;
+
+import com.example.bomberman.service.PerformanceMetrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * File sans verrou des commandes des joueurs, du thread JavaFX vers le thread de simulation
+ * Un seul producteur (les gestionnaires de touches) et un seul consommateur (la simulation) :
+ * chaque commande est codée dans un entier d'un tableau circulaire, sans allocation
+ */
+public class InputQueue {
+    private static final int CAPACITY = 256;
+    private static final int MASK = CAPACITY - 1;
+
+    private final int[] events = new int[CAPACITY];
+    // Prochaine case à écrire (producteur) et à lire (consommateur)
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    private static final PlayerCommand[] COMMANDS = PlayerCommand.values();
+
+    /**
+     * Ajoute une commande à la file (thread JavaFX)
+     * @param playerId Identifiant du joueur
+     * @param command Commande
+     * @param pressed true si la touche est pressée, false si elle est relâchée
+     * @return false si la file est pleine (la commande est perdue et comptée dans les métriques)
+     */
+    public boolean offer(int playerId, PlayerCommand command, boolean pressed) {
+        long position = tail.get();
+        if (position - head.get() >= CAPACITY) {
+            PerformanceMetrics.getInstance().recordDroppedInput();
+            return false;
+        }
+        events[(int) (position & MASK)] = (playerId << 8) | (command.ordinal() << 1) | (pressed ? 1 : 0);
+        tail.lazySet(position + 1);
+        return true;
+    }
+
+    /**
+     * Transmet toutes les commandes en attente à la partie (thread de simulation)
+     * @param game La partie
+     */
+    public void drainTo(Game game) {
+        long position = head.get();
+        long end = tail.get();
+        while (position < end) {
+            int event = events[(int) (position & MASK)];
+            int playerId = event >>> 8;
+            PlayerCommand command = COMMANDS[(event >>> 1) & 0x7F];
+            if ((event & 1) != 0) {
+                game.handleCommandPressed(playerId, command);
+            } else {
+                game.handleCommandReleased(playerId, command);
+            }
+            position++;
+        }
+        head.lazySet(position);
+    }
+
+    /**
+     * Oublie les commandes en attente (thread de simulation, ou simulation arrêtée)
+     */
+    public void clear() {
+        head.lazySet(tail.get());
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.bomberman.models.world;
+
+/**
+ * Contenu d'un fichier de niveau : dimensions, positions de départ des joueurs et type de chaque case
+ * Les cases sont rangées ligne par ligne dans un tableau d'octets (mêmes valeurs que GameBoard.getCell)
+ */
+public class LevelData {
+    private final int width;
+    private final int height;
+    private final byte[] cells;
+    private int player1X, player1Y;
+    private int player2X, player2Y;
+    // Métadonnée facultative
+    private String name;
+
+    /**
+     * Constructeur d'un niveau vide
+     * @param width Largeur en cases
+     * @param height Hauteur en cases
+     */
+    public LevelData(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.cells = new byte[Math.multiplyExact(width, height)];
+    }
+
+    /**
+     * Crée un niveau à partir d'un tableau de cases (indice [y][x]), comme celui de l'éditeur
+     */
+    public static LevelData fromArray(int[][] levelData, int player1X, int player1Y, int player2X, int player2Y) {
+        LevelData level = new LevelData(levelData[0].length, levelData.length);
+        for (int y = 0; y < level.height; y++) {
+            for (int x = 0; x < level.width; x++) {
+                level.setCell(x, y, levelData[y][x]);
+            }
+        }
+        level.setPlayer1(player1X, player1Y);
+        level.setPlayer2(player2X, player2Y);
+        return level;
+    }
+
+    /**
+     * Retourne les cases sous forme de tableau (indice [y][x])
+     */
+    public int[][] toArray() {
+        int[][] levelData = new int[height][width];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                levelData[y][x] = cells[y * width + x];
+            }
+        }
+        return levelData;
+    }
+
+    public int getCell(int x, int y) {
+        return cells[y * width + x];
+    }
+
+    public void setCell(int x, int y, int type) {
+        cells[y * width + x] = (byte) type;
+    }
+
+    /**
+     * Cases du niveau, ligne par ligne (accès direct pour le chargement)
+     */
+    byte[] getCells() {
+        return cells;
+    }
+
+    public void setPlayer1(int x, int y) {
+        this.player1X = x;
+        this.player1Y = y;
+    }
+
+    public void setPlayer2(int x, int y) {
+        this.player2X = x;
+        this.player2Y = y;
+    }
+
+    // Getters et setters
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int getPlayer1X() { return player1X; }
+    public int getPlayer1Y() { return player1Y; }
+    public int getPlayer2X() { return player2X; }
+    public int getPlayer2Y() { return player2Y; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+}
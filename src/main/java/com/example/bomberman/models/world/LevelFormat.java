@@ -0,0 +1,377 @@
+package com.example.bomberman.models.world;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Lecture et écriture des fichiers de niveau, dans deux formats :
+ * - texte (.level) : "largeur,hauteur", puis "x1,y1,x2,y2", puis une ligne de cases séparées par des virgules
+ * - binaire (.blevel) : en-tête, positions de départ, cases compactées sur 2 ou 4 bits,
+ *   métadonnées facultatives et somme de contrôle CRC32
+ * La lecture reconnaît le format au contenu du fichier, l'écriture le choisit d'après l'extension
+ *
+ * Format binaire (petit-boutiste) :
+ *   "BMLV", version (1 octet), bits par case (1 octet : 2 ou 4), drapeaux (2 octets),
+ *   largeur, hauteur, x1, y1, x2, y2 (2 octets chacun),
+ *   [si drapeau NAME : longueur (2 octets) puis nom en UTF-8],
+ *   cases ligne par ligne (la première case dans les bits de poids faible de chaque octet),
+ *   CRC32 de tout ce qui précède (4 octets)
+ */
+public final class LevelFormat {
+    public static final String TEXT_EXTENSION = ".level";
+    public static final String BINARY_EXTENSION = ".blevel";
+
+    private static final byte[] MAGIC = {'B', 'M', 'L', 'V'};
+    private static final int VERSION = 1;
+    private static final int FLAG_NAME = 1;
+    private static final int HEADER_SIZE = 20;
+    private static final int MAX_DIMENSION = 0xFFFF;
+    // Nombre maximal de cases d'un niveau (4096 x 4096), vérifié avant toute allocation
+    private static final int MAX_CELLS = 1 << 24;
+    private static final int MAX_CELL_TYPE = 15;
+
+    // Au-delà de cette taille, le fichier est projeté en mémoire plutôt que copié
+    private static final long MAP_THRESHOLD = 1 << 20;
+
+    private LevelFormat() {
+    }
+
+    /**
+     * Lit un fichier de niveau, texte ou binaire
+     * @param levelPath Chemin du fichier
+     * @return Le niveau lu
+     * @throws IOException Si le fichier est illisible ou invalide
+     */
+    public static LevelData read(String levelPath) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(levelPath), StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer buffer;
+            if (size >= MAP_THRESHOLD) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                buffer = ByteBuffer.allocate((int) size);
+                while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                    // Lire jusqu'à la fin du fichier
+                }
+                buffer.flip();
+            }
+            return isBinary(buffer) ? readBinary(buffer) : readText(buffer);
+        }
+    }
+
+    /**
+     * Indique si le contenu commence par la signature du format binaire
+     */
+    private static boolean isBinary(ByteBuffer buffer) {
+        if (buffer.remaining() < MAGIC.length) return false;
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (buffer.get(buffer.position() + i) != MAGIC[i]) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Lit un niveau au format binaire
+     */
+    static LevelData readBinary(ByteBuffer buffer) throws IOException {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        int start = buffer.position();
+        if (buffer.remaining() < HEADER_SIZE + 4) {
+            throw new IOException("Fichier de niveau binaire tronqué");
+        }
+
+        // Vérifier la somme de contrôle avant de lire le contenu
+        int crcOffset = buffer.limit() - 4;
+        CRC32 crc = new CRC32();
+        ByteBuffer content = buffer.duplicate();
+        content.limit(crcOffset);
+        crc.update(content);
+        if ((int) crc.getValue() != buffer.getInt(crcOffset)) {
+            throw new IOException("Fichier de niveau binaire corrompu (somme de contrôle invalide)");
+        }
+
+        buffer.position(start + MAGIC.length);
+        int version = buffer.get() & 0xFF;
+        if (version != VERSION) {
+            throw new IOException("Version de niveau binaire non supportée: " + version);
+        }
+        int bitsPerCell = buffer.get() & 0xFF;
+        if (bitsPerCell != 2 && bitsPerCell != 4) {
+            throw new IOException("Nombre de bits par case invalide: " + bitsPerCell);
+        }
+        int flags = buffer.getShort() & 0xFFFF;
+        int width = buffer.getShort() & 0xFFFF;
+        int height = buffer.getShort() & 0xFFFF;
+        if (width == 0 || height == 0) {
+            throw new IOException("Dimensions de niveau invalides: " + width + "x" + height);
+        }
+
+        int player1X = buffer.getShort() & 0xFFFF;
+        int player1Y = buffer.getShort() & 0xFFFF;
+        int player2X = buffer.getShort() & 0xFFFF;
+        int player2Y = buffer.getShort() & 0xFFFF;
+        checkStart(1, player1X, player1Y, width, height);
+        checkStart(2, player2X, player2Y, width, height);
+        int cellCount = checkSize(width, height);
+
+        // Vérifier les longueurs annoncées par rapport au contenu avant d'allouer le niveau
+        String name = null;
+        if ((flags & FLAG_NAME) != 0) {
+            if (crcOffset - buffer.position() < 2) {
+                throw new IOException("Fichier de niveau binaire tronqué");
+            }
+            int nameLength = buffer.getShort() & 0xFFFF;
+            if (nameLength > crcOffset - buffer.position()) {
+                throw new IOException("Nom de niveau plus long que le fichier");
+            }
+            byte[] nameBytes = new byte[nameLength];
+            buffer.get(nameBytes);
+            name = new String(nameBytes, StandardCharsets.UTF_8);
+        }
+
+        int cellsPerByte = 8 / bitsPerCell;
+        int packedSize = (cellCount + cellsPerByte - 1) / cellsPerByte;
+        if (crcOffset - buffer.position() != packedSize) {
+            throw new IOException("Taille des cases incohérente avec les dimensions du niveau");
+        }
+
+        LevelData level = new LevelData(width, height);
+        level.setPlayer1(player1X, player1Y);
+        level.setPlayer2(player2X, player2Y);
+        level.setName(name);
+
+        byte[] cells = level.getCells();
+        int mask = (1 << bitsPerCell) - 1;
+        for (int index = 0; index < cells.length; ) {
+            int packed = buffer.get();
+            for (int shift = 0; shift < 8 && index < cells.length; shift += bitsPerCell) {
+                cells[index++] = (byte) ((packed >>> shift) & mask);
+            }
+        }
+        return level;
+    }
+
+    /**
+     * Lit un niveau au format texte
+     * Les nombres sont lus directement dans les octets du fichier, sans découper de chaînes
+     */
+    static LevelData readText(ByteBuffer buffer) throws IOException {
+        int width = nextNumber(buffer);
+        int height = nextNumber(buffer);
+        if (width <= 0 || height <= 0 || width > MAX_DIMENSION || height > MAX_DIMENSION) {
+            throw new IOException("Dimensions de niveau invalides: " + width + "x" + height);
+        }
+
+        int player1X = nextNumber(buffer);
+        int player1Y = nextNumber(buffer);
+        int player2X = nextNumber(buffer);
+        int player2Y = nextNumber(buffer);
+        checkStart(1, player1X, player1Y, width, height);
+        checkStart(2, player2X, player2Y, width, height);
+        // Chaque case occupe au moins un chiffre : un fichier trop court est rejeté avant l'allocation
+        if (buffer.remaining() < checkSize(width, height)) {
+            throw new IOException("Fichier de niveau incomplet");
+        }
+
+        LevelData level = new LevelData(width, height);
+        level.setPlayer1(player1X, player1Y);
+        level.setPlayer2(player2X, player2Y);
+
+        byte[] cells = level.getCells();
+        for (int index = 0; index < cells.length; index++) {
+            int type = nextNumber(buffer);
+            if (type > MAX_CELL_TYPE) {
+                throw new IOException("Type de case invalide: " + type);
+            }
+            cells[index] = (byte) type;
+        }
+        return level;
+    }
+
+    /**
+     * Vérifie qu'une position de départ est sur le plateau
+     */
+    private static void checkStart(int playerId, int x, int y, int width, int height) throws IOException {
+        if (x >= width || y >= height) {
+            throw new IOException("Position de départ du joueur " + playerId + " hors du niveau: "
+                    + x + "," + y + " (niveau " + width + "x" + height + ")");
+        }
+    }
+
+    /**
+     * Vérifie que le niveau n'a pas trop de cases, avant de l'allouer
+     * @return Nombre de cases du niveau
+     */
+    private static int checkSize(int width, int height) throws IOException {
+        long cellCount = (long) width * height;
+        if (cellCount > MAX_CELLS) {
+            throw new IOException("Niveau trop grand: " + width + "x" + height);
+        }
+        return (int) cellCount;
+    }
+
+    /**
+     * Lit le prochain entier positif, en sautant les séparateurs (virgules, espaces, fins de ligne)
+     */
+    private static int nextNumber(ByteBuffer buffer) throws IOException {
+        int c = -1;
+        while (buffer.hasRemaining()) {
+            c = buffer.get();
+            if (c >= '0' && c <= '9') break;
+            if (c != ',' && c != ' ' && c != '\t' && c != '\r' && c != '\n') {
+                throw new IOException("Caractère inattendu dans le fichier de niveau: '" + (char) c + "'");
+            }
+            c = -1;
+        }
+        if (c < 0) {
+            throw new IOException("Fichier de niveau incomplet");
+        }
+
+        int value = c - '0';
+        while (buffer.hasRemaining()) {
+            c = buffer.get(buffer.position());
+            if (c < '0' || c > '9') break;
+            buffer.get();
+            value = value * 10 + (c - '0');
+            if (value > MAX_DIMENSION) {
+                throw new IOException("Nombre trop grand dans le fichier de niveau");
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Écrit un fichier de niveau, au format binaire si son nom se termine par .blevel, texte sinon
+     * @param level Le niveau
+     * @param levelPath Chemin du fichier
+     * @throws IOException Si l'écriture échoue
+     */
+    public static void write(LevelData level, String levelPath) throws IOException {
+        ByteBuffer buffer = levelPath.endsWith(BINARY_EXTENSION) ? toBinary(level) : toText(level);
+        try (FileChannel channel = FileChannel.open(Paths.get(levelPath), StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Encode un niveau au format binaire (2 bits par case si possible, 4 sinon)
+     */
+    static ByteBuffer toBinary(LevelData level) throws IOException {
+        int width = level.getWidth();
+        int height = level.getHeight();
+        if (width > MAX_DIMENSION || height > MAX_DIMENSION) {
+            throw new IOException("Niveau trop grand pour le format binaire: " + width + "x" + height);
+        }
+        checkSize(width, height);
+
+        byte[] cells = level.getCells();
+        int maxType = 0;
+        for (byte cell : cells) {
+            if (cell < 0 || cell > MAX_CELL_TYPE) {
+                throw new IOException("Type de case invalide: " + cell);
+            }
+            maxType = Math.max(maxType, cell);
+        }
+        int bitsPerCell = maxType <= 3 ? 2 : 4;
+        int cellsPerByte = 8 / bitsPerCell;
+        int packedSize = (cells.length + cellsPerByte - 1) / cellsPerByte;
+
+        byte[] name = level.getName() != null ? level.getName().getBytes(StandardCharsets.UTF_8) : null;
+        if (name != null && name.length > MAX_DIMENSION) {
+            throw new IOException("Nom de niveau trop long");
+        }
+        int size = HEADER_SIZE + (name != null ? 2 + name.length : 0) + packedSize + 4;
+
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(MAGIC);
+        buffer.put((byte) VERSION);
+        buffer.put((byte) bitsPerCell);
+        buffer.putShort((short) (name != null ? FLAG_NAME : 0));
+        buffer.putShort((short) width);
+        buffer.putShort((short) height);
+        buffer.putShort((short) level.getPlayer1X());
+        buffer.putShort((short) level.getPlayer1Y());
+        buffer.putShort((short) level.getPlayer2X());
+        buffer.putShort((short) level.getPlayer2Y());
+        if (name != null) {
+            buffer.putShort((short) name.length);
+            buffer.put(name);
+        }
+
+        for (int index = 0; index < cells.length; ) {
+            int packed = 0;
+            for (int shift = 0; shift < 8 && index < cells.length; shift += bitsPerCell) {
+                packed |= cells[index++] << shift;
+            }
+            buffer.put((byte) packed);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Encode un niveau au format texte
+     */
+    static ByteBuffer toText(LevelData level) {
+        int width = level.getWidth();
+        byte[] cells = level.getCells();
+        StringBuilder text = new StringBuilder(cells.length * 2 + 32);
+
+        // Dimensions puis positions des joueurs
+        text.append(width).append(',').append(level.getHeight()).append('\n');
+        text.append(level.getPlayer1X()).append(',').append(level.getPlayer1Y()).append(',')
+                .append(level.getPlayer2X()).append(',').append(level.getPlayer2Y()).append('\n');
+
+        // Données du niveau
+        for (int index = 0; index < cells.length; index++) {
+            text.append(cells[index]);
+            text.append((index + 1) % width == 0 ? '\n' : ',');
+        }
+        return ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Convertisseur en ligne de commande : LevelFormat source destination
+     * Le format de la destination dépend de son extension (.blevel : binaire, sinon texte)
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.out.println("Usage : LevelFormat <source> <destination>");
+            System.out.println("  La destination est écrite en binaire si elle se termine par " + BINARY_EXTENSION
+                    + ", en texte sinon");
+            System.exit(2);
+        }
+
+        try {
+            long start = System.nanoTime();
+            LevelData level = read(args[0]);
+            long readNanos = System.nanoTime() - start;
+
+            if (level.getName() == null) {
+                String fileName = Paths.get(args[0]).getFileName().toString();
+                int dot = fileName.lastIndexOf('.');
+                level.setName(dot > 0 ? fileName.substring(0, dot) : fileName);
+            }
+            write(level, args[1]);
+
+            System.out.println("Niveau " + level.getWidth() + "x" + level.getHeight() + " lu en "
+                    + readNanos / 1000 + " µs et écrit dans " + args[1]);
+        } catch (IOException e) {
+            System.err.println("Erreur lors de la conversion du niveau: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.example.bomberman.models.world;
+
+import com.example.bomberman.models.entities.MovableEntity;
+import com.example.bomberman.models.entities.Player;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Contrôleur des bots : recherche arborescente Monte-Carlo (MCTS) sur un SearchState
+ * Après chaque action, la partie est relevée dans un état compact et la décision suivante est
+ * cherchée sur un ForkJoinPool partagé : un nombre fixe d'arbres indépendants, chacun avec son
+ * générateur, dont les visites sont additionnées à la racine. La décision est appliquée un nombre
+ * fixe de ticks après son lancement ; en attendant, le bot se contente de fuir les explosions
+ * La force du bot ne dépend que de son budget de simulations par décision (voir rolloutsFor)
+ * En mode asynchrone (partie affichée), la boucle de jeu n'attend jamais et la recherche est bornée
+ * par un délai. En mode synchrone (partie reproductible), la recherche va au bout de son budget :
+ * avec la même graine, les décisions sont les mêmes quelle que soit la machine
+ */
+public class MctsController implements PlayerController {
+    /** Délai maximal d'une décision en mode asynchrone, en millisecondes */
+    public static final long DECISION_TIME_BUDGET = 120;
+    // Ticks entre le lancement d'une recherche et l'application de sa décision (le délai maximal)
+    private static final long DECISION_TICKS = SimulationContext.millisToTicks(DECISION_TIME_BUDGET);
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    // Simulations par décision pour chaque niveau de difficulté (1 à GameSetup.EXPERT)
+    private static final int[] LEVEL_ROLLOUTS = {20, 100, 500, 4000};
+
+    // Pas simulés au-delà de la racine (plus qu'une mèche)
+    private static final int HORIZON = 20;
+    private static final double EXPLORATION = 1.4;
+    // Arbres indépendants par décision (fixe : le résultat ne dépend pas du nombre de cœurs)
+    private static final int TREES = 4;
+
+    // Fils de la recherche : un cœur reste libre pour la boucle de jeu et le rendu
+    private static final ForkJoinPool POOL =
+            new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+
+    private final int rollouts;
+    private boolean synchronous;
+    private SplittableRandom random;
+
+    // Recherche en cours, tick où sa décision s'applique, décision prête (-1 si aucune)
+    // et état relevé pour la recherche
+    private ForkJoinTask<Integer> search;
+    private long decisionTick;
+    private int decision = -1;
+    private final SearchState root = new SearchState();
+    // Plateau sur lequel la recherche a été lancée (une partie redémarrée en a un nouveau)
+    private GameBoard searchedBoard;
+
+    // Fuite en attendant une décision, heuristiques du BotPlayer si une recherche échoue
+    private final PathPlanner planner = new PathPlanner();
+    private final BotController fallback = new BotController();
+
+    /**
+     * Constructeur
+     * @param rollouts Nombre de simulations par décision
+     */
+    public MctsController(int rollouts) {
+        this.rollouts = Math.max(1, rollouts);
+    }
+
+    /**
+     * Retourne le budget de simulations par décision d'un niveau de difficulté
+     * @param difficultyLevel Niveau de difficulté (1-3, ou GameSetup.EXPERT)
+     */
+    public static int rolloutsFor(int difficultyLevel) {
+        int level = Math.max(1, Math.min(LEVEL_ROLLOUTS.length, difficultyLevel));
+        return LEVEL_ROLLOUTS[level - 1];
+    }
+
+    /**
+     * Retourne le nombre de simulations par décision
+     */
+    public int getRollouts() {
+        return rollouts;
+    }
+
+    /**
+     * Calcule chaque décision jusqu'au bout de son budget, sans délai, en attendant la recherche
+     * Pour les parties reproductibles ou sans affichage (simulations accélérées, mesures), où les
+     * ticks s'enchaînent plus vite que la recherche : les décisions ne dépendent plus de la machine
+     */
+    public void setSynchronous(boolean synchronous) {
+        this.synchronous = synchronous;
+    }
+
+    @Override
+    public void control(Game game, Player player) {
+        if (!player.isAlive() || !game.isGameRunning()) return;
+
+        if (search != null) {
+            // La recherche lit l'état relevé jusqu'à sa fin : on ne relance qu'une fois terminée,
+            // et sa décision n'est appliquée qu'au tick prévu, quelle que soit sa durée
+            if (!search.isDone() || game.getContext().getTick() < decisionTick) {
+                dodge(game, player);
+                return;
+            }
+            ForkJoinTask<Integer> done = search;
+            search = null;
+            if (done.isCompletedAbnormally()) {
+                // Recherche en échec : on joue ce tick à l'heuristique et on relance
+                fallback.control(game, player);
+                return;
+            }
+            decision = done.getRawResult();
+        }
+        if (game.getBoard() != searchedBoard) {
+            // Partie redémarrée ou niveau chargé : la décision portait sur l'ancien plateau
+            decision = -1;
+        }
+        if (decision < 0) {
+            launch(game, player, player.canMove() ? 0 : MovableEntity.MOVE_TICKS);
+            return;
+        }
+        if (decision != SearchState.BOMB && !player.canMove()) return;
+
+        int action = decision;
+        decision = -1;
+        play(game, player, action);
+        launch(game, player, action == SearchState.STAY || action == SearchState.BOMB ? 0 : MovableEntity.MOVE_TICKS);
+    }
+
+    @Override
+    public boolean acceptsCommands() {
+        return false;
+    }
+
+    /**
+     * Applique une action choisie par la recherche
+     * Une décision périmée qui mènerait dans une explosion est abandonnée
+     */
+    private void play(Game game, Player player, int action) {
+        if (action == SearchState.BOMB) {
+            game.placeBomb(player);
+        } else if (action != SearchState.STAY) {
+            int dx = action == SearchState.RIGHT ? 1 : action == SearchState.LEFT ? -1 : 0;
+            int dy = action == SearchState.DOWN ? 1 : action == SearchState.UP ? -1 : 0;
+            if (!game.getBoard().isExplosion(player.getX() + dx, player.getY() + dy)) {
+                game.movePlayer(player, dx, dy);
+            }
+        }
+    }
+
+    /**
+     * Lance la recherche de la prochaine décision
+     * @param aheadTicks Ticks avant que le bot puisse agir
+     */
+    private void launch(Game game, Player player, long aheadTicks) {
+        if (random == null) {
+            random = game.getContext().split();
+        }
+        searchedBoard = game.getBoard();
+        decisionTick = game.getContext().getTick() + DECISION_TICKS;
+        root.capture(game, player, Math.max(aheadTicks, DECISION_TICKS));
+        long deadline = synchronous ? NO_DEADLINE : System.nanoTime() + DECISION_TIME_BUDGET * 1_000_000L;
+        Search task = new Search(root, player.getPlayerId() - 1, rollouts, deadline, random.split());
+        search = POOL.submit(task);
+        if (synchronous) {
+            // Le résultat (ou l'échec) est relevé au tick prévu, comme en mode asynchrone
+            search.quietlyJoin();
+        }
+    }
+
+    /**
+     * En attendant une décision : quitter une case que touchera une explosion
+     */
+    private void dodge(Game game, Player player) {
+        DangerMap danger = game.getDangerMap();
+        if (!player.canMove() || !danger.isThreatened(player.getX(), player.getY())) return;
+
+        if (planner.findNearestSafe(game.getBoard(), danger, player.getX(), player.getY(), MovableEntity.MOVE_TICKS)
+                && planner.getPathLength() > 0) {
+            game.movePlayer(player, planner.getPathX(0) - player.getX(), planner.getPathY(0) - player.getY());
+        }
+    }
+
+    /**
+     * Recherche d'une décision : TREES arbres répartis sur le pool, visites additionnées à la racine
+     * Retourne l'action la plus visitée
+     */
+    private static class Search extends RecursiveTask<Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final SearchState root;
+        private final int player;
+        private final int rollouts;
+        private final long deadline;
+        private final SplittableRandom random;
+
+        Search(SearchState root, int player, int rollouts, long deadline, SplittableRandom random) {
+            this.root = root;
+            this.player = player;
+            this.rollouts = rollouts;
+            this.deadline = deadline;
+            this.random = random;
+        }
+
+        @Override
+        protected Integer compute() {
+            int count = Math.min(rollouts, TREES);
+            TreeSearch[] trees = new TreeSearch[count];
+            for (int i = 0; i < count; i++) {
+                int share = rollouts / count + (i < rollouts % count ? 1 : 0);
+                trees[i] = new TreeSearch(root, player, share, deadline, random.split());
+            }
+            invokeAll(trees);
+
+            long[] visits = new long[SearchState.ACTION_COUNT];
+            for (TreeSearch tree : trees) {
+                int[] treeVisits = tree.getRawResult();
+                for (int action = 0; action < visits.length; action++) {
+                    visits[action] += treeVisits[action];
+                }
+            }
+
+            int best = SearchState.STAY;
+            for (int action = 0; action < visits.length; action++) {
+                if (visits[action] > visits[best]) best = action;
+            }
+            return best;
+        }
+    }
+
+    /**
+     * Un arbre de recherche, parcouru en boucle ouverte : les nœuds ne retiennent que les
+     * statistiques des actions du bot, l'état étant rejoué depuis la racine à chaque simulation
+     * L'adversaire joue la politique de simulation
+     * Retourne le nombre de visites de chaque action à la racine
+     */
+    private static class TreeSearch extends RecursiveTask<int[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final SearchState root;
+        private final SearchState state = new SearchState();
+        private final int player;
+        private final int rollouts;
+        private final long deadline;
+        private final SplittableRandom random;
+
+        // Chemin de la simulation en cours dans l'arbre
+        private final Node[] pathNodes = new Node[HORIZON];
+        private final int[] pathActions = new int[HORIZON];
+
+        TreeSearch(SearchState root, int player, int rollouts, long deadline, SplittableRandom random) {
+            this.root = root;
+            this.player = player;
+            this.rollouts = rollouts;
+            this.deadline = deadline;
+            this.random = random;
+        }
+
+        @Override
+        protected int[] compute() {
+            Node tree = new Node();
+            for (int i = 0; i < rollouts; i++) {
+                if ((i & 15) == 0 && System.nanoTime() > deadline) break;
+                simulate(tree);
+            }
+            return tree.visits;
+        }
+
+        private void simulate(Node tree) {
+            state.copyFrom(root);
+
+            // Sélection et expansion : on descend tant que les nœuds existent
+            Node node = tree;
+            int depth = 0;
+            while (depth < HORIZON && !state.isOver()) {
+                int action = node.select(state, player, random);
+                pathNodes[depth] = node;
+                pathActions[depth] = action;
+                depth++;
+                advance(action, state.randomAction(1 - player, random));
+
+                if (node.children[action] == null) {
+                    node.children[action] = new Node();
+                    break;
+                }
+                node = node.children[action];
+            }
+
+            // Simulation jusqu'à l'horizon
+            for (int step = depth; step < HORIZON && !state.isOver(); step++) {
+                advance(state.randomAction(player, random), state.randomAction(1 - player, random));
+            }
+
+            double value = state.evaluate(player, root);
+            for (int i = 0; i < depth; i++) {
+                pathNodes[i].update(pathActions[i], value);
+            }
+        }
+
+        private void advance(int action, int opponentAction) {
+            if (player == 0) {
+                state.advance(action, opponentAction);
+            } else {
+                state.advance(opponentAction, action);
+            }
+        }
+    }
+
+    /**
+     * Nœud de l'arbre : visites et valeur cumulée de chaque action du bot
+     */
+    private static class Node {
+        private final int[] visits = new int[SearchState.ACTION_COUNT];
+        private final double[] values = new double[SearchState.ACTION_COUNT];
+        private final Node[] children = new Node[SearchState.ACTION_COUNT];
+        private int total;
+
+        /**
+         * Choisit une action possible : une action jamais essayée au hasard, sinon selon UCB1
+         */
+        int select(SearchState state, int player, SplittableRandom random) {
+            int untried = -1;
+            int untriedCount = 0;
+            int best = SearchState.STAY;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            double logTotal = Math.log(Math.max(1, total));
+            for (int action = 0; action < SearchState.ACTION_COUNT; action++) {
+                if (!state.isLegal(player, action)) continue;
+
+                if (visits[action] == 0) {
+                    // Tirage uniforme parmi les actions jamais essayées
+                    if (random.nextInt(++untriedCount) == 0) untried = action;
+                } else {
+                    double score = values[action] / visits[action]
+                            + EXPLORATION * Math.sqrt(logTotal / visits[action]);
+                    if (score > bestScore) {
+                        bestScore = score;
+                        best = action;
+                    }
+                }
+            }
+            return untried >= 0 ? untried : best;
+        }
+
+        void update(int action, double value) {
+            visits[action]++;
+            values[action] += value;
+            total++;
+        }
+    }
+}
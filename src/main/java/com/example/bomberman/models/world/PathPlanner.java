@@ -0,0 +1,316 @@
+package com.example.bomberman.models.world;
+
+import com.example.bomberman.models.entities.Bomb;
+
+import java.util.Arrays;
+
+/**
+ * Recherche de chemins sur les cases accessibles du plateau, pour l'IA : en largeur vers la case
+ * sûre la plus proche, en A* vers une case donnée
+ * Une case n'est empruntée que si l'on en sera reparti avant qu'une explosion l'atteigne
+ * (voir DangerMap). Les tableaux de travail sont alloués aux dimensions du plateau puis réutilisés :
+ * une recherche ne parcourt que les cases atteintes, sans remise à zéro
+ */
+public class PathPlanner {
+    private static final int[] DX = {0, 1, 0, -1};
+    private static final int[] DY = {-1, 0, 1, 0};
+    private static final long FUSE_TICKS = SimulationContext.millisToTicks(Bomb.EXPLOSION_DELAY);
+
+    private int width, height;
+    // File de la recherche (en A* : cases de coût estimé f, puis f + 2),
+    // case précédente et nombre de pas de chaque case atteinte
+    private int[] queue = new int[0];
+    private int[] nextQueue = new int[0];
+    private int[] parent = new int[0];
+    private int[] steps = new int[0];
+    // Numéro de la recherche qui a atteint la case (évite de remettre les tableaux à zéro)
+    private int[] visited = new int[0];
+    private int search;
+
+    // Dernier chemin trouvé, sans la case de départ
+    private int[] path = new int[0];
+    private int pathLength;
+
+    // Bombe supposée posée pendant la recherche (voir canEscape), -1 sinon
+    private int extraBomb = -1;
+    private int extraRange;
+    private int extraTick;
+
+    /**
+     * Cherche le chemin le plus court vers la case sûre la plus proche
+     * @param board Le plateau
+     * @param danger La carte des dangers
+     * @param startX Position X de départ
+     * @param startY Position Y de départ
+     * @param ticksPerStep Nombre de ticks pour franchir une case
+     * @return true si une case sûre est accessible (le chemin est alors disponible)
+     */
+    public boolean findNearestSafe(GameBoard board, DangerMap danger, int startX, int startY, long ticksPerStep) {
+        return search(board, danger, startX, startY, ticksPerStep);
+    }
+
+    /**
+     * Cherche le chemin le plus court vers une case
+     * @param board Le plateau
+     * @param danger La carte des dangers
+     * @param startX Position X de départ
+     * @param startY Position Y de départ
+     * @param targetX Position X visée
+     * @param targetY Position Y visée
+     * @param ticksPerStep Nombre de ticks pour franchir une case
+     * @return true si la case est accessible (le chemin est alors disponible)
+     */
+    public boolean findPath(GameBoard board, DangerMap danger, int startX, int startY,
+                            int targetX, int targetY, long ticksPerStep) {
+        if (targetX < 0 || targetX >= board.getWidth() || targetY < 0 || targetY >= board.getHeight()) {
+            pathLength = 0;
+            return false;
+        }
+        return searchTowards(board, danger, startX, startY, targetX, targetY, ticksPerStep);
+    }
+
+    /**
+     * Vérifie qu'après avoir posé une bombe ici, une case sûre resterait accessible à temps
+     * @param board Le plateau
+     * @param danger La carte des dangers
+     * @param x Position X de la bombe
+     * @param y Position Y de la bombe
+     * @param range Portée de la bombe
+     * @param ticksPerStep Nombre de ticks pour franchir une case
+     * @return true si la fuite est possible (le chemin est alors disponible)
+     */
+    public boolean canEscape(GameBoard board, DangerMap danger, int x, int y, int range, long ticksPerStep) {
+        extraBomb = y * board.getWidth() + x;
+        extraRange = range;
+        extraTick = (int) Math.min(danger.blastTickAt(extraBomb), board.getContext().getTick() + FUSE_TICKS);
+        try {
+            return search(board, danger, x, y, ticksPerStep);
+        } finally {
+            extraBomb = -1;
+        }
+    }
+
+    /**
+     * Recherche en largeur de la première case sûre
+     */
+    private boolean search(GameBoard board, DangerMap danger, int startX, int startY, long ticksPerStep) {
+        int start = begin(board, startX, startY);
+        long now = board.getContext().getTick();
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int index = queue[head++];
+            if (isSafe(board, danger, index)) {
+                buildPath(index);
+                return true;
+            }
+
+            int x = index % width;
+            int y = index / width;
+            int nextSteps = steps[index] + 1;
+            for (int dir = 0; dir < 4; dir++) {
+                int nx = x + DX[dir];
+                int ny = y + DY[dir];
+                int next = ny * width + nx;
+                if (!canEnter(board, danger, nx, ny, nextSteps, now, ticksPerStep)) continue;
+
+                visited[next] = search;
+                parent[next] = index;
+                steps[next] = nextSteps;
+                queue[tail++] = next;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Recherche A* vers une case, avec la distance de Manhattan comme estimation
+     * Chaque pas coûte 1 et change l'estimation de 1 : le coût estimé f d'une case voisine vaut
+     * f ou f + 2, deux piles suffisent donc comme file de priorité
+     */
+    private boolean searchTowards(GameBoard board, DangerMap danger, int startX, int startY,
+                                  int targetX, int targetY, long ticksPerStep) {
+        int start = begin(board, startX, startY);
+        int target = targetY * width + targetX;
+        long now = board.getContext().getTick();
+        int[] current = queue;
+        int[] next = nextQueue;
+        int currentSize = 0;
+        int nextSize = 0;
+        int cost = Math.abs(startX - targetX) + Math.abs(startY - targetY);
+        current[currentSize++] = start;
+
+        while (currentSize > 0 || nextSize > 0) {
+            if (currentSize == 0) {
+                int[] swap = current;
+                current = next;
+                next = swap;
+                currentSize = nextSize;
+                nextSize = 0;
+                cost += 2;
+            }
+
+            int index = current[--currentSize];
+            int x = index % width;
+            int y = index / width;
+            // Case retrouvée depuis par un chemin plus court : entrée périmée
+            if (steps[index] + Math.abs(x - targetX) + Math.abs(y - targetY) != cost) continue;
+
+            if (index == target) {
+                buildPath(index);
+                return true;
+            }
+
+            int nextSteps = steps[index] + 1;
+            for (int dir = 0; dir < 4; dir++) {
+                int nx = x + DX[dir];
+                int ny = y + DY[dir];
+                int neighbor = ny * width + nx;
+                if (!canEnter(board, danger, nx, ny, nextSteps, now, ticksPerStep)) continue;
+
+                visited[neighbor] = search;
+                parent[neighbor] = index;
+                steps[neighbor] = nextSteps;
+                if (nextSteps + Math.abs(nx - targetX) + Math.abs(ny - targetY) == cost) {
+                    current[currentSize++] = neighbor;
+                } else {
+                    next[nextSize++] = neighbor;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Prépare une nouvelle recherche et marque la case de départ
+     * @return L'indice de la case de départ
+     */
+    private int begin(GameBoard board, int startX, int startY) {
+        ensureCapacity(board);
+        pathLength = 0;
+        if (++search == 0) {
+            // Les numéros ont fait le tour : repartir de tableaux propres
+            Arrays.fill(visited, 0);
+            search = 1;
+        }
+
+        int start = startY * width + startX;
+        visited[start] = search;
+        parent[start] = -1;
+        steps[start] = 0;
+        return start;
+    }
+
+    /**
+     * Vérifie qu'une case voisine peut être atteinte en nextSteps pas
+     * Elle doit être libre, pas déjà atteinte en autant de pas ou moins, et il faut l'avoir quittée
+     * (un pas de plus) avant qu'une explosion l'atteigne
+     */
+    private boolean canEnter(GameBoard board, DangerMap danger, int x, int y, int nextSteps,
+                             long now, long ticksPerStep) {
+        if (!board.isValidMove(x, y)) return false;
+
+        int index = y * width + x;
+        if (visited[index] == search && steps[index] <= nextSteps) return false;
+
+        long leaveTick = now + (nextSteps + 1) * ticksPerStep;
+        return blastTick(board, danger, index) > leaveTick;
+    }
+
+    /**
+     * Une case est sûre si aucune explosion ne l'atteindra
+     */
+    private boolean isSafe(GameBoard board, DangerMap danger, int index) {
+        return blastTick(board, danger, index) == DangerMap.SAFE;
+    }
+
+    /**
+     * Tick d'explosion d'une case, en tenant compte de la bombe supposée
+     */
+    private int blastTick(GameBoard board, DangerMap danger, int index) {
+        int tick = danger.blastTickAt(index);
+        if (extraBomb >= 0 && extraTick < tick && inBlast(board, index)) {
+            return extraTick;
+        }
+        return tick;
+    }
+
+    /**
+     * Vérifie si la case est dans la zone de souffle de la bombe supposée
+     * Mêmes règles que GameBoard.blastMask : arrêt aux murs, après un mur destructible ou une bombe
+     */
+    private boolean inBlast(GameBoard board, int index) {
+        int bombX = extraBomb % width;
+        int bombY = extraBomb / width;
+        int x = index % width;
+        int y = index / width;
+        if (x != bombX && y != bombY) return false;
+
+        int distance = Math.abs(x - bombX) + Math.abs(y - bombY);
+        if (distance > extraRange) return false;
+
+        int dx = Integer.signum(x - bombX);
+        int dy = Integer.signum(y - bombY);
+        for (int i = 1; i < distance; i++) {
+            int cx = bombX + dx * i;
+            int cy = bombY + dy * i;
+            if (board.isWall(cx, cy) || board.isBomb(cx, cy)) return false;
+        }
+        return board.canExplode(x, y);
+    }
+
+    /**
+     * Remonte les parents de la case d'arrivée jusqu'au départ
+     */
+    private void buildPath(int end) {
+        pathLength = steps[end];
+        int index = end;
+        for (int i = pathLength - 1; i >= 0; i--) {
+            path[i] = index;
+            index = parent[index];
+        }
+    }
+
+    /**
+     * Adapte les tableaux de travail aux dimensions du plateau
+     */
+    private void ensureCapacity(GameBoard board) {
+        if (board.getWidth() == width && board.getHeight() == height) return;
+
+        width = board.getWidth();
+        height = board.getHeight();
+        int cells = width * height;
+        queue = new int[cells];
+        nextQueue = new int[cells];
+        parent = new int[cells];
+        steps = new int[cells];
+        visited = new int[cells];
+        path = new int[cells];
+        search = 0;
+    }
+
+    /**
+     * Retourne le nombre de pas du dernier chemin trouvé (0 si l'on est déjà arrivé)
+     */
+    public int getPathLength() {
+        return pathLength;
+    }
+
+    /**
+     * Retourne la position X d'une étape du dernier chemin
+     * @param step Étape (0 = première case après le départ)
+     */
+    public int getPathX(int step) {
+        return path[step] % width;
+    }
+
+    /**
+     * Retourne la position Y d'une étape du dernier chemin
+     * @param step Étape (0 = première case après le départ)
+     */
+    public int getPathY(int step) {
+        return path[step] / width;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.bomberman.models.world;
+
+/**
+ * Commandes qu'un joueur peut envoyer à la simulation
+ * Les contrôleurs traduisent les touches du clavier en commandes
+ */
+public enum PlayerCommand {
+    UP(0, -1),
+    DOWN(0, 1),
+    LEFT(-1, 0),
+    RIGHT(1, 0),
+    BOMB(0, 0),
+    SPECIAL(0, 0);
+
+    private final int dx;
+    private final int dy;
+
+    PlayerCommand(int dx, int dy) {
+        this.dx = dx;
+        this.dy = dy;
+    }
+
+    /**
+     * Indique si la commande est un déplacement
+     */
+    public boolean isMovement() {
+        return dx != 0 || dy != 0;
+    }
+
+    public int getDx() { return dx; }
+    public int getDy() { return dy; }
+}
@@ -0,0 +1,25 @@
+package com.example.bomberman.models.world;
+
+import com.example.bomberman.models.entities.Player;
+
+/**
+ * Contrôleur d'un joueur : décide de ses actions à chaque tick de la simulation
+ * Un contrôleur agit uniquement par les méthodes de Game (déplacement, pose de bombe...),
+ * sans réflexion ni accès aux champs de la partie
+ */
+public interface PlayerController {
+
+    /**
+     * Fait agir le joueur pour le tick en cours (thread de simulation)
+     * @param game La partie
+     * @param player Le joueur contrôlé
+     */
+    void control(Game game, Player player);
+
+    /**
+     * Indique si le joueur obéit aux commandes du clavier (bombe, capacité spéciale)
+     */
+    default boolean acceptsCommands() {
+        return true;
+    }
+}
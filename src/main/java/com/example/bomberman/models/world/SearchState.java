@@ -0,0 +1,443 @@
+package com.example.bomberman.models.world;
+
+import com.example.bomberman.models.entities.Bomb;
+import com.example.bomberman.models.entities.MovableEntity;
+import com.example.bomberman.models.entities.Player;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * État compact d'une partie pour la recherche des bots (voir MctsController)
+ * Le temps avance par pas d'un déplacement : à chaque pas, chaque joueur joue une action
+ * Modèle simplifié du jeu : murs, bombes (mèche, portée, réactions en chaîne), flammes, vies,
+ * réapparition et invincibilité ; les power-ups sont ignorés et une explosion se propage
+ * d'un coup. Les murs indestructibles sont partagés entre les copies, le reste est recopié
+ * par copyFrom sans allocation
+ */
+public class SearchState {
+    // Actions d'un joueur
+    public static final int UP = 0;
+    public static final int RIGHT = 1;
+    public static final int DOWN = 2;
+    public static final int LEFT = 3;
+    public static final int STAY = 4;
+    public static final int BOMB = 5;
+    public static final int ACTION_COUNT = 6;
+
+    private static final int[] DX = {0, 1, 0, -1, 0, 0};
+    private static final int[] DY = {-1, 0, 1, 0, 0, 0};
+
+    // Durées, en pas d'un déplacement
+    static final long STEP_TICKS = MovableEntity.MOVE_TICKS;
+    private static final int FUSE_STEPS = steps(SimulationContext.millisToTicks(Bomb.EXPLOSION_DELAY));
+    private static final int FLAME_STEPS = steps(SimulationContext.millisToTicks(GameBoard.EXPLOSION_DURATION));
+    private static final int INVINCIBLE_STEPS = steps(SimulationContext.millisToTicks(Player.INVINCIBILITY_DURATION));
+
+    private int width, height;
+    private BitPlane hardWalls;
+    private BitPlane softWalls;
+    private BitPlane bombPlane;
+    private BitPlane flamePlane;
+    private int step;
+
+    // Distances vers l'adversaire du joueur qui cherche, relevées au départ (partagées entre les copies)
+    private int searcher;
+    private int[] approach = new int[0];
+
+    // Joueurs (indice = identifiant du joueur - 1)
+    private final int[] playerX = new int[2];
+    private final int[] playerY = new int[2];
+    private final int[] lives = new int[2];
+    private final int[] bombsLeft = new int[2];
+    private final int[] bombRange = new int[2];
+    private final int[] spawnX = new int[2];
+    private final int[] spawnY = new int[2];
+    private final int[] invincibleUntil = new int[2];
+    private final int[] wallsDestroyed = new int[2];
+
+    // Bombes posées : case, joueur, portée et pas de l'explosion
+    private int[] bombCell = new int[8];
+    private int[] bombOwner = new int[8];
+    private int[] bombRadius = new int[8];
+    private int[] bombFuse = new int[8];
+    private int bombCount;
+
+    // Cases en flammes et pas de leur extinction
+    private int[] flameCell = new int[32];
+    private int[] flameEnd = new int[32];
+    private int flameCount;
+
+    // File des bombes qui sautent pendant un pas (réactions en chaîne)
+    private int[] chain = new int[8];
+
+    private static int steps(long ticks) {
+        return (int) ((ticks + STEP_TICKS - 1) / STEP_TICKS);
+    }
+
+    /**
+     * Relève l'état d'une partie
+     * @param game La partie
+     * @param searcher Joueur pour qui la recherche est faite
+     * @param aheadTicks Ticks qui s'écouleront avant la première action (retranchés des mèches et flammes)
+     */
+    void capture(Game game, Player searcher, long aheadTicks) {
+        GameBoard board = game.getBoard();
+        if (hardWalls == null || board.getWidth() != width || board.getHeight() != height) {
+            width = board.getWidth();
+            height = board.getHeight();
+            hardWalls = new BitPlane(width, height);
+            softWalls = new BitPlane(width, height);
+            bombPlane = new BitPlane(width, height);
+            flamePlane = new BitPlane(width, height);
+            approach = new int[width * height];
+        }
+        this.searcher = searcher.getPlayerId() - 1;
+        Player opponent = searcher == game.getPlayer1() ? game.getPlayer2() : game.getPlayer1();
+        game.getFlowField(opponent).copyDistances(approach);
+        // Copie des plans du plateau (les explosions sont relevées à part, avec leur fin)
+        board.copyPlanes(hardWalls, softWalls, bombPlane);
+        flamePlane.clearAll();
+        step = 0;
+
+        capturePlayer(0, game.getPlayer1());
+        capturePlayer(1, game.getPlayer2());
+
+        long now = game.getContext().getTick() + aheadTicks;
+        long flameTicks = SimulationContext.millisToTicks(GameBoard.EXPLOSION_DURATION);
+        flameCount = 0;
+        board.forEachCell(GameBoard.EXPLOSION, index -> {
+            long remaining = board.explosionTickAt(index) + flameTicks - now;
+            if (remaining > 0) {
+                addFlame(index, steps(remaining));
+            }
+        });
+
+        bombCount = 0;
+        game.forEachBomb(bomb -> {
+            long remaining = SimulationContext.millisToTicks(bomb.getTimeLeft()) - aheadTicks;
+            addBomb(bomb.getY() * width + bomb.getX(), bomb.getPlayerId() - 1, bomb.getRange(),
+                    (int) Math.max(1, (remaining + STEP_TICKS - 1) / STEP_TICKS));
+        });
+
+        // Branches en attente : allumées tout de suite, les bombes touchées sauteront au premier pas
+        game.forEachPendingBlast(bomb -> paintBlast(bomb.getY() * width + bomb.getX(), bomb.getRange(), -1, 0));
+    }
+
+    private void capturePlayer(int p, Player player) {
+        playerX[p] = player.getX();
+        playerY[p] = player.getY();
+        lives[p] = player.getLives();
+        bombsLeft[p] = Math.max(0, player.getMaxBombs() - player.getCurrentBombs());
+        bombRange[p] = player.getBombRange();
+        spawnX[p] = player.getSpawnX();
+        spawnY[p] = player.getSpawnY();
+        // La fin exacte de l'invincibilité n'est pas connue : on compte la durée entière
+        invincibleUntil[p] = player.isInvincible() ? INVINCIBLE_STEPS : 0;
+        wallsDestroyed[p] = 0;
+    }
+
+    /**
+     * Recopie un autre état (les murs indestructibles sont partagés)
+     */
+    public void copyFrom(SearchState other) {
+        if (softWalls == null || other.width != width || other.height != height) {
+            width = other.width;
+            height = other.height;
+            softWalls = new BitPlane(width, height);
+            bombPlane = new BitPlane(width, height);
+            flamePlane = new BitPlane(width, height);
+        }
+        hardWalls = other.hardWalls;
+        searcher = other.searcher;
+        approach = other.approach;
+        softWalls.copyFrom(other.softWalls);
+        bombPlane.copyFrom(other.bombPlane);
+        flamePlane.copyFrom(other.flamePlane);
+        step = other.step;
+
+        System.arraycopy(other.playerX, 0, playerX, 0, 2);
+        System.arraycopy(other.playerY, 0, playerY, 0, 2);
+        System.arraycopy(other.lives, 0, lives, 0, 2);
+        System.arraycopy(other.bombsLeft, 0, bombsLeft, 0, 2);
+        System.arraycopy(other.bombRange, 0, bombRange, 0, 2);
+        System.arraycopy(other.spawnX, 0, spawnX, 0, 2);
+        System.arraycopy(other.spawnY, 0, spawnY, 0, 2);
+        System.arraycopy(other.invincibleUntil, 0, invincibleUntil, 0, 2);
+        System.arraycopy(other.wallsDestroyed, 0, wallsDestroyed, 0, 2);
+
+        if (bombCell.length < other.bombCount) {
+            growBombs(other.bombCell.length);
+        }
+        bombCount = other.bombCount;
+        System.arraycopy(other.bombCell, 0, bombCell, 0, bombCount);
+        System.arraycopy(other.bombOwner, 0, bombOwner, 0, bombCount);
+        System.arraycopy(other.bombRadius, 0, bombRadius, 0, bombCount);
+        System.arraycopy(other.bombFuse, 0, bombFuse, 0, bombCount);
+
+        if (flameCell.length < other.flameCount) {
+            flameCell = new int[other.flameCell.length];
+            flameEnd = new int[other.flameCell.length];
+        }
+        flameCount = other.flameCount;
+        System.arraycopy(other.flameCell, 0, flameCell, 0, flameCount);
+        System.arraycopy(other.flameEnd, 0, flameEnd, 0, flameCount);
+    }
+
+    /**
+     * Fait jouer un pas : actions des joueurs, explosions, extinction des flammes, dégâts
+     * @param action1 Action du joueur 1
+     * @param action2 Action du joueur 2
+     */
+    public void advance(int action1, int action2) {
+        apply(0, action1);
+        apply(1, action2);
+        step++;
+        detonateDueBombs();
+        expireFlames();
+        checkDamage(0);
+        checkDamage(1);
+    }
+
+    /**
+     * Vérifie qu'une action est possible pour un joueur
+     */
+    public boolean isLegal(int p, int action) {
+        if (lives[p] <= 0 || action == STAY) return action == STAY;
+        if (action == BOMB) return bombsLeft[p] > 0 && !bombPlane.get(cellOf(p));
+        return isWalkable(playerX[p] + DX[action], playerY[p] + DY[action]);
+    }
+
+    /**
+     * Action de la politique de simulation : quelques bombes, sinon un déplacement au hasard
+     * qui n'entre pas dans les flammes
+     */
+    public int randomAction(int p, SplittableRandom random) {
+        if (lives[p] <= 0) return STAY;
+        if (random.nextInt(10) == 0 && isLegal(p, BOMB)) return BOMB;
+
+        int start = random.nextInt(5);
+        for (int i = 0; i < 5; i++) {
+            int action = (start + i) % 5;
+            if (action == STAY) return STAY;
+
+            int x = playerX[p] + DX[action];
+            int y = playerY[p] + DY[action];
+            if (isWalkable(x, y) && !flamePlane.get(y * width + x)) return action;
+        }
+        return STAY;
+    }
+
+    /**
+     * Évalue l'état pour un joueur, entre 0 (il a perdu) et 1 (il a gagné)
+     * @param p Indice du joueur
+     * @param root État de départ de la recherche (vies et murs comptés depuis celui-ci)
+     */
+    public double evaluate(int p, SearchState root) {
+        int other = 1 - p;
+        if (lives[p] <= 0) return 0;
+        if (lives[other] <= 0) return 1;
+
+        int livesLost = root.lives[p] - lives[p];
+        int livesTaken = root.lives[other] - lives[other];
+        double value = 0.5 + 0.25 * livesTaken - 0.3 * livesLost + 0.01 * wallsDestroyed[p];
+        if (p == searcher) {
+            // Se rapprocher de l'adversaire (par les cases accessibles) compte un peu : le bot va au combat
+            int distance = approach[cellOf(p)];
+            if (distance == FlowField.UNREACHABLE) {
+                distance = Math.abs(playerX[p] - playerX[other]) + Math.abs(playerY[p] - playerY[other]) + 10;
+            }
+            value -= 0.004 * Math.min(distance, 50);
+        }
+        return Math.max(0, Math.min(1, value));
+    }
+
+    /**
+     * Indique si la partie simulée est terminée
+     */
+    public boolean isOver() {
+        return lives[0] <= 0 || lives[1] <= 0;
+    }
+
+    private void apply(int p, int action) {
+        if (!isLegal(p, action)) return;
+
+        if (action == BOMB) {
+            addBomb(cellOf(p), p, bombRange[p], step + FUSE_STEPS);
+            bombsLeft[p]--;
+        } else if (action != STAY) {
+            playerX[p] += DX[action];
+            playerY[p] += DY[action];
+        }
+    }
+
+    /**
+     * Fait sauter les bombes dont la mèche arrive à terme, et celles qu'elles touchent
+     */
+    private void detonateDueBombs() {
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < bombCount; i++) {
+            if (bombFuse[i] <= step) {
+                bombFuse[i] = -1; // En file
+                chain[tail++] = i;
+            }
+        }
+        if (tail == 0) return;
+
+        while (head < tail) {
+            int i = chain[head++];
+            int center = bombCell[i];
+            bombPlane.clear(center);
+            tail = paintBlast(center, bombRadius[i], bombOwner[i], tail);
+        }
+
+        // Retirer les bombes qui ont sauté et les rendre à leur joueur
+        int kept = 0;
+        for (int i = 0; i < bombCount; i++) {
+            if (bombFuse[i] < 0) {
+                bombsLeft[bombOwner[i]]++;
+            } else {
+                bombCell[kept] = bombCell[i];
+                bombOwner[kept] = bombOwner[i];
+                bombRadius[kept] = bombRadius[i];
+                bombFuse[kept] = bombFuse[i];
+                kept++;
+            }
+        }
+        bombCount = kept;
+    }
+
+    /**
+     * Allume la zone de souffle d'une bombe (mêmes règles que GameBoard.blastMask)
+     * Les murs destructibles touchés sont détruits, les bombes touchées rejoignent la file
+     * @param owner Joueur crédité des murs détruits, ou -1
+     * @return La nouvelle fin de la file des bombes
+     */
+    private int paintBlast(int center, int range, int owner, int tail) {
+        int centerX = center % width;
+        int centerY = center / width;
+        addFlame(center, step + FLAME_STEPS);
+        for (int dir = 0; dir < 4; dir++) {
+            for (int i = 1; i <= range; i++) {
+                int x = centerX + DX[dir] * i;
+                int y = centerY + DY[dir] * i;
+                if (x < 0 || x >= width || y < 0 || y >= height) break;
+
+                int index = y * width + x;
+                if (hardWalls.get(index)) break;
+
+                addFlame(index, step + FLAME_STEPS);
+                if (softWalls.get(index)) {
+                    softWalls.clear(index);
+                    if (owner >= 0) wallsDestroyed[owner]++;
+                    break;
+                }
+                if (bombPlane.get(index)) {
+                    tail = queueBombAt(index, tail);
+                    break;
+                }
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * Ajoute à la file la bombe d'une case si elle n'y est pas déjà
+     */
+    private int queueBombAt(int index, int tail) {
+        for (int i = 0; i < bombCount; i++) {
+            if (bombCell[i] == index && bombFuse[i] >= 0) {
+                bombFuse[i] = -1;
+                chain[tail++] = i;
+            }
+        }
+        return tail;
+    }
+
+    private void addBomb(int cell, int owner, int range, int fuse) {
+        if (bombCount == bombCell.length) {
+            growBombs(bombCount * 2);
+        }
+        bombCell[bombCount] = cell;
+        bombOwner[bombCount] = owner;
+        bombRadius[bombCount] = range;
+        bombFuse[bombCount] = fuse;
+        bombCount++;
+        bombPlane.set(cell);
+    }
+
+    private void growBombs(int capacity) {
+        bombCell = Arrays.copyOf(bombCell, capacity);
+        bombOwner = Arrays.copyOf(bombOwner, capacity);
+        bombRadius = Arrays.copyOf(bombRadius, capacity);
+        bombFuse = Arrays.copyOf(bombFuse, capacity);
+        chain = new int[capacity];
+    }
+
+    /**
+     * Allume une case jusqu'à un pas donné (une case déjà allumée garde la fin la plus tardive)
+     */
+    private void addFlame(int cell, int end) {
+        if (flamePlane.get(cell)) {
+            for (int i = 0; i < flameCount; i++) {
+                if (flameCell[i] == cell) {
+                    flameEnd[i] = Math.max(flameEnd[i], end);
+                    return;
+                }
+            }
+        }
+        if (flameCount == flameCell.length) {
+            flameCell = Arrays.copyOf(flameCell, flameCount * 2);
+            flameEnd = Arrays.copyOf(flameEnd, flameCount * 2);
+        }
+        flameCell[flameCount] = cell;
+        flameEnd[flameCount] = end;
+        flameCount++;
+        flamePlane.set(cell);
+    }
+
+    private void expireFlames() {
+        int kept = 0;
+        for (int i = 0; i < flameCount; i++) {
+            if (flameEnd[i] <= step) {
+                flamePlane.clear(flameCell[i]);
+            } else {
+                flameCell[kept] = flameCell[i];
+                flameEnd[kept] = flameEnd[i];
+                kept++;
+            }
+        }
+        flameCount = kept;
+    }
+
+    /**
+     * Un joueur dans les flammes perd une vie, réapparaît à son point de départ et devient invincible
+     */
+    private void checkDamage(int p) {
+        if (lives[p] <= 0 || invincibleUntil[p] > step || !flamePlane.get(cellOf(p))) return;
+
+        lives[p]--;
+        if (lives[p] > 0) {
+            playerX[p] = spawnX[p];
+            playerY[p] = spawnY[p];
+            invincibleUntil[p] = step + INVINCIBLE_STEPS;
+        }
+    }
+
+    private boolean isWalkable(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) return false;
+        int index = y * width + x;
+        return !hardWalls.get(index) && !softWalls.get(index) && !bombPlane.get(index);
+    }
+
+    private int cellOf(int p) {
+        return playerY[p] * width + playerX[p];
+    }
+
+    // Getters
+    public int getPlayerX(int p) { return playerX[p]; }
+    public int getPlayerY(int p) { return playerY[p]; }
+    public int getLives(int p) { return lives[p]; }
+    public int getStep() { return step; }
+}
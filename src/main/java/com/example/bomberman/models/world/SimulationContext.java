@@ -0,0 +1,85 @@
+package com.example.bomberman.models.world;
+
+import java.util.SplittableRandom;
+
+/**
+ * Contexte partagé par tous les éléments d'une simulation : générateur aléatoire et horloge
+ * Avec la même graine et les mêmes commandes, deux parties produisent exactement le même état
+ */
+public class SimulationContext {
+    public static final int TICKS_PER_SECOND = 60;
+
+    private final long seed;
+    private final SplittableRandom random;
+    private long tick;
+
+    /**
+     * Constructeur avec une graine tirée au hasard
+     */
+    public SimulationContext() {
+        this(System.nanoTime());
+    }
+
+    /**
+     * Constructeur
+     * @param seed Graine du générateur aléatoire
+     */
+    public SimulationContext(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+        this.tick = 0;
+    }
+
+    /**
+     * Fait avancer l'horloge d'un tick
+     */
+    public void advanceTick() {
+        tick++;
+    }
+
+    /**
+     * Retourne le numéro du tick courant
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Retourne le temps de simulation écoulé depuis le début de la partie
+     * @return Temps en millisecondes, calculé à partir des ticks
+     */
+    public long currentTimeMillis() {
+        return tick * 1000 / TICKS_PER_SECOND;
+    }
+
+    /**
+     * Convertit une durée en nombre de ticks (arrondi au tick supérieur)
+     * @param millis Durée en millisecondes
+     * @return Nombre de ticks
+     */
+    public static long millisToTicks(long millis) {
+        return (millis * TICKS_PER_SECOND + 999) / 1000;
+    }
+
+    /**
+     * Retourne le générateur aléatoire partagé
+     */
+    public SplittableRandom random() {
+        return random;
+    }
+
+    /**
+     * Crée un générateur indépendant pour un élément de la simulation
+     * Chaque élément tire ses nombres dans son propre flux, sans perturber les autres
+     */
+    public SplittableRandom split() {
+        return random.split();
+    }
+
+    /**
+     * Retourne la graine de la simulation
+     */
+    public long getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.bomberman.models.world;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Triple tampon d'instantanés entre le thread de simulation (écrivain) et le rendu (lecteur)
+ * L'écrivain remplit toujours un tampon libre puis l'échange avec le tampon du milieu ;
+ * le lecteur prend le tampon du milieu s'il est plus récent que le sien. Aucun verrou :
+ * un seul entier atomique contient l'indice du tampon du milieu et un bit "pas encore lu"
+ */
+public class SnapshotBuffer {
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4;
+
+    private final GameSnapshot[] buffers = {new GameSnapshot(), new GameSnapshot(), new GameSnapshot()};
+    private final AtomicInteger middle = new AtomicInteger(1);
+
+    // Tampon de l'écrivain (thread de simulation uniquement)
+    private int back = 2;
+    private long sequence;
+    private GameBoard lastBoard;
+    private int boardGeneration;
+    // Cases modifiées du dernier instantané publié, reportées tant qu'il n'a pas été lu
+    private BitPlane publishedDirty;
+
+    // Tampon du lecteur (thread de rendu uniquement)
+    private int front = 0;
+
+    /**
+     * Copie l'état de la partie et le publie pour le rendu (thread de simulation)
+     * @param game La partie
+     */
+    public void publish(Game game) {
+        GameBoard board = game.getBoard();
+        if (board == null) return;
+
+        if (board != lastBoard) {
+            lastBoard = board;
+            boardGeneration++;
+        }
+
+        GameSnapshot snapshot = buffers[back];
+        snapshot.capture(game, ++sequence, boardGeneration);
+
+        // Les cases modifiées d'un instantané remplacé avant d'avoir été lu sont reportées dans le suivant.
+        // Si le lecteur le prend entre le test et l'échange, il redessine simplement quelques cases de trop
+        BitPlane dirty = snapshot.getDirtyCells();
+        boolean previousUnread = (middle.get() & FRESH) != 0;
+        dirty.clearAll();
+        board.collectDirtyCells(dirty);
+        if (publishedDirty == null || publishedDirty.getWidth() != dirty.getWidth()
+                || publishedDirty.getHeight() != dirty.getHeight()) {
+            publishedDirty = snapshot.newPlane();
+        } else if (previousUnread) {
+            dirty.or(publishedDirty);
+        }
+        publishedDirty.copyFrom(dirty);
+
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Retourne le dernier instantané complet (thread de rendu)
+     * L'instantané reste valide jusqu'au prochain appel
+     * @return L'instantané, ou null si aucun n'a encore été publié
+     */
+    public GameSnapshot acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        GameSnapshot snapshot = buffers[front];
+        return snapshot.getSequence() > 0 ? snapshot : null;
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.bomberman.models.world;
+
+import java.util.Arrays;
+
+/**
+ * Échéancier à roue hachée : chaque événement est rangé dans la case (tick d'échéance modulo taille)
+ * À chaque tick, seule la case courante est parcourue, on ne touche donc que les événements
+ * de cette case au lieu d'interroger chaque élément du jeu
+ * Un événement porte un élément et un entier libre (type d'événement, indice de case...)
+ * @param <E> Type des éléments planifiés
+ */
+public class TimingWheel<E> {
+
+    /**
+     * Action déclenchée quand un événement arrive à échéance
+     */
+    @FunctionalInterface
+    public interface Handler<E> {
+        void onDue(E element, int data);
+    }
+
+    private static final int DEFAULT_SLOTS = 256; // ~4 secondes à 60 ticks par seconde
+    private static final int INITIAL_SLOT_CAPACITY = 4;
+
+    private final int mask;
+    private final Object[][] elements;
+    private final int[][] data;
+    private final long[][] dueTicks;
+    private final int[] sizes;
+    private long currentTick;
+    private int size;
+
+    // Tampon réutilisé pour les événements échus d'une case
+    private Object[] dueElements = new Object[INITIAL_SLOT_CAPACITY];
+    private int[] dueData = new int[INITIAL_SLOT_CAPACITY];
+
+    /**
+     * Constructeur avec la taille par défaut
+     * @param startTick Tick courant de la simulation
+     */
+    public TimingWheel(long startTick) {
+        this(startTick, DEFAULT_SLOTS);
+    }
+
+    /**
+     * Constructeur
+     * @param startTick Tick courant de la simulation
+     * @param slots Nombre de cases (arrondi à la puissance de 2 supérieure)
+     */
+    public TimingWheel(long startTick, int slots) {
+        int capacity = Integer.highestOneBit(Math.max(1, slots - 1)) << 1;
+        this.mask = capacity - 1;
+        this.elements = new Object[capacity][];
+        this.data = new int[capacity][];
+        this.dueTicks = new long[capacity][];
+        this.sizes = new int[capacity];
+        this.currentTick = startTick;
+    }
+
+    /**
+     * Planifie un événement
+     * Un événement déjà échu est déclenché au prochain tick
+     * @param element Élément concerné
+     * @param eventData Donnée associée à l'événement
+     * @param dueTick Tick d'échéance
+     */
+    public void schedule(E element, int eventData, long dueTick) {
+        long tick = Math.max(dueTick, currentTick + 1);
+        int slot = (int) (tick & mask);
+        int n = sizes[slot];
+
+        if (elements[slot] == null) {
+            elements[slot] = new Object[INITIAL_SLOT_CAPACITY];
+            data[slot] = new int[INITIAL_SLOT_CAPACITY];
+            dueTicks[slot] = new long[INITIAL_SLOT_CAPACITY];
+        } else if (n == elements[slot].length) {
+            elements[slot] = Arrays.copyOf(elements[slot], n * 2);
+            data[slot] = Arrays.copyOf(data[slot], n * 2);
+            dueTicks[slot] = Arrays.copyOf(dueTicks[slot], n * 2);
+        }
+
+        elements[slot][n] = element;
+        data[slot][n] = eventData;
+        dueTicks[slot][n] = tick;
+        sizes[slot] = n + 1;
+        size++;
+    }
+
+    /**
+     * Avance jusqu'au tick donné et déclenche les événements échus, dans leur ordre de planification
+     * @param tick Tick courant de la simulation
+     * @param handler Action à déclencher pour chaque événement échu
+     */
+    public void advanceTo(long tick, Handler<? super E> handler) {
+        while (currentTick < tick) {
+            currentTick++;
+            fireSlot((int) (currentTick & mask), handler);
+        }
+    }
+
+    /**
+     * Déclenche les événements échus d'une case
+     * Les événements des tours suivants restent en place
+     */
+    @SuppressWarnings("unchecked")
+    private void fireSlot(int slot, Handler<? super E> handler) {
+        int n = sizes[slot];
+        if (n == 0) return;
+
+        Object[] slotElements = elements[slot];
+        int[] slotData = data[slot];
+        long[] slotTicks = dueTicks[slot];
+
+        // Séparer les événements échus (copiés dans le tampon) de ceux des tours suivants
+        int kept = 0;
+        int due = 0;
+        for (int i = 0; i < n; i++) {
+            if (slotTicks[i] <= currentTick) {
+                if (due == dueElements.length) {
+                    dueElements = Arrays.copyOf(dueElements, due * 2);
+                    dueData = Arrays.copyOf(dueData, due * 2);
+                }
+                dueElements[due] = slotElements[i];
+                dueData[due] = slotData[i];
+                due++;
+            } else {
+                slotElements[kept] = slotElements[i];
+                slotData[kept] = slotData[i];
+                slotTicks[kept] = slotTicks[i];
+                kept++;
+            }
+        }
+        Arrays.fill(slotElements, kept, n, null);
+        sizes[slot] = kept;
+        size -= due;
+
+        // Déclencher après la mise à jour de la case : un gestionnaire peut replanifier
+        for (int i = 0; i < due; i++) {
+            E element = (E) dueElements[i];
+            dueElements[i] = null;
+            handler.onDue(element, dueData[i]);
+        }
+    }
+
+    /**
+     * Supprime tous les événements planifiés
+     */
+    public void clear() {
+        for (int slot = 0; slot < sizes.length; slot++) {
+            if (elements[slot] != null) {
+                Arrays.fill(elements[slot], 0, sizes[slot], null);
+            }
+            sizes[slot] = 0;
+        }
+        size = 0;
+    }
+
+    /**
+     * Retourne le nombre d'événements en attente
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retourne le dernier tick traité
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+}
@@ -0,0 +1,297 @@
+package com.example.bomberman.render;
+
+import com.example.bomberman.models.world.BitPlane;
+import com.example.bomberman.models.world.GameBoard;
+import com.example.bomberman.models.world.GameSnapshot;
+import com.example.bomberman.utils.SpriteAtlas;
+import com.example.bomberman.utils.SpriteAtlas.Sprite;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/**
+ * Adaptateur de rendu du plateau de jeu, en deux couches :
+ * - une couche statique (sol et murs indestructibles) pré-rendue une seule fois dans une image
+ * - une couche dynamique (murs destructibles et explosions) dessinée à chaque frame
+ * Seules les cases visibles par la caméra sont dessinées
+ * Les bombes, les power-ups et les joueurs forment la couche des entités (voir GameRenderer)
+ */
+public class BoardRenderer {
+    // Au-delà de cette taille en pixels, la couche statique est dessinée case par case
+    private static final int MAX_LAYER_SIZE = 4096;
+
+    // Sprites du thème actuel, à la taille des cases (défini par GameRenderer)
+    private SpriteAtlas atlas;
+
+    // Couche statique en cache et état du plateau pour lequel elle a été pré-rendue
+    private WritableImage staticLayer;
+    private SpriteAtlas layerAtlas;
+    private int layerBoard;
+    private int layerVersion;
+    private int layerTileSize;
+
+    /**
+     * Définit l'atlas de sprites utilisé (null : rendu par défaut)
+     */
+    public void setAtlas(SpriteAtlas atlas) {
+        this.atlas = atlas;
+    }
+
+    /**
+     * Dessine les cases du plateau visibles par la caméra
+     */
+    public void render(GraphicsContext gc, GameSnapshot board, int tileSize, Camera camera) {
+        renderStaticLayer(gc, board, tileSize, camera);
+        renderDynamicLayer(gc, board, tileSize, camera);
+    }
+
+    /**
+     * Redessine uniquement certaines cases du plateau (couche statique puis dynamique)
+     * La couche statique doit avoir été préparée par un appel à render pour ce plateau
+     * @param cells Cases à redessiner
+     */
+    public void renderCells(GraphicsContext gc, GameSnapshot board, int tileSize, BitPlane cells) {
+        int width = board.getWidth();
+        boolean useLayer = staticLayer != null && layerAtlas == atlas && layerBoard == board.getBoardGeneration()
+                && layerVersion == board.getLayoutVersion() && layerTileSize == tileSize;
+        long currentTime = board.currentTimeMillis();
+
+        for (int index = cells.nextSetBit(0); index >= 0; index = cells.nextSetBit(index + 1)) {
+            int x = index % width;
+            int y = index / width;
+            int cellX = x * tileSize;
+            int cellY = y * tileSize;
+
+            gc.clearRect(cellX, cellY, tileSize, tileSize);
+            if (useLayer) {
+                gc.drawImage(staticLayer, cellX, cellY, tileSize, tileSize, cellX, cellY, tileSize, tileSize);
+            } else {
+                drawStaticCell(gc, board, x, y, tileSize);
+            }
+
+            switch (board.getCell(x, y)) {
+                case GameBoard.DESTRUCTIBLE_WALL:
+                    drawBreakableWall(gc, cellX, cellY, tileSize);
+                    break;
+                case GameBoard.EXPLOSION:
+                    double progress = Math.min(1.0,
+                            (double)(currentTime - board.getExplosionTime(x, y)) / GameBoard.EXPLOSION_DURATION);
+                    drawExplosion(gc, cellX, cellY, tileSize, progress);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Dessine la couche statique, pré-rendue si le plateau a changé de disposition depuis la dernière frame
+     */
+    private void renderStaticLayer(GraphicsContext gc, GameSnapshot board, int tileSize, Camera camera) {
+        int pixelWidth = board.getWidth() * tileSize;
+        int pixelHeight = board.getHeight() * tileSize;
+
+        if (pixelWidth > MAX_LAYER_SIZE || pixelHeight > MAX_LAYER_SIZE) {
+            drawStaticCells(gc, board, tileSize, camera.getMinCellX(), camera.getMinCellY(),
+                    camera.getMaxCellX(), camera.getMaxCellY());
+            return;
+        }
+
+        if (staticLayer == null || layerAtlas != atlas || layerBoard != board.getBoardGeneration()
+                || layerVersion != board.getLayoutVersion() || layerTileSize != tileSize) {
+            Canvas layerCanvas = new Canvas(pixelWidth, pixelHeight);
+            drawStaticCells(layerCanvas.getGraphicsContext2D(), board, tileSize,
+                    0, 0, board.getWidth() - 1, board.getHeight() - 1);
+
+            SnapshotParameters parameters = new SnapshotParameters();
+            parameters.setFill(Color.TRANSPARENT);
+            staticLayer = layerCanvas.snapshot(parameters, null);
+            layerAtlas = atlas;
+            layerBoard = board.getBoardGeneration();
+            layerVersion = board.getLayoutVersion();
+            layerTileSize = tileSize;
+        }
+
+        // Seule la partie visible de la couche est copiée
+        int layerX = camera.getMinCellX() * tileSize;
+        int layerY = camera.getMinCellY() * tileSize;
+        int layerWidth = (camera.getMaxCellX() + 1) * tileSize - layerX;
+        int layerHeight = (camera.getMaxCellY() + 1) * tileSize - layerY;
+        gc.drawImage(staticLayer, layerX, layerY, layerWidth, layerHeight, layerX, layerY, layerWidth, layerHeight);
+    }
+
+    /**
+     * Dessine le sol et les murs indestructibles des cases d'un rectangle (bornes incluses)
+     */
+    private void drawStaticCells(GraphicsContext gc, GameSnapshot board, int tileSize,
+                                 int minX, int minY, int maxX, int maxY) {
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                drawStaticCell(gc, board, x, y, tileSize);
+            }
+        }
+    }
+
+    /**
+     * Dessine le sol ou le mur indestructible d'une case
+     */
+    private void drawStaticCell(GraphicsContext gc, GameSnapshot board, int x, int y, int tileSize) {
+        int cellX = x * tileSize;
+        int cellY = y * tileSize;
+
+        if (board.getCell(x, y) == GameBoard.WALL) {
+            drawWall(gc, cellX, cellY, tileSize);
+        } else {
+            // Le sol est aussi dessiné sous les murs destructibles, visibles une fois détruits
+            drawFloor(gc, x, y, cellX, cellY, tileSize);
+        }
+
+        // Grille subtile (uniquement si on n'utilise pas de sprites)
+        if (!hasSprite(Sprite.TILE)) {
+            gc.setStroke(Color.DARKGREEN.darker());
+            gc.setLineWidth(0.5);
+            gc.strokeRect(cellX, cellY, tileSize, tileSize);
+        }
+    }
+
+    /**
+     * Dessine les murs destructibles et les explosions des cases visibles
+     */
+    private void renderDynamicLayer(GraphicsContext gc, GameSnapshot board, int tileSize, Camera camera) {
+        long currentTime = board.currentTimeMillis();
+
+        for (int y = camera.getMinCellY(); y <= camera.getMaxCellY(); y++) {
+            for (int x = camera.getMinCellX(); x <= camera.getMaxCellX(); x++) {
+                switch (board.getCell(x, y)) {
+                    case GameBoard.DESTRUCTIBLE_WALL:
+                        drawBreakableWall(gc, x * tileSize, y * tileSize, tileSize);
+                        break;
+                    case GameBoard.EXPLOSION:
+                        // La durée de vie de l'explosion est gérée par la simulation, le rendu ne fait que la lire
+                        double progress = Math.min(1.0,
+                                (double)(currentTime - board.getExplosionTime(x, y)) / GameBoard.EXPLOSION_DURATION);
+                        drawExplosion(gc, x * tileSize, y * tileSize, tileSize, progress);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Dessine le sol d'une case
+     */
+    private void drawFloor(GraphicsContext gc, int x, int y, int cellX, int cellY, int tileSize) {
+        // Utiliser le sprite de tuile si disponible
+        if (hasSprite(Sprite.TILE)) {
+            atlas.draw(gc, Sprite.TILE, cellX, cellY);
+        } else {
+            // Fallback: Sol avec effet de damier subtil
+            Color grassColor = ((x + y) % 2 == 0) ? Color.LIGHTGREEN : Color.LIGHTGREEN.darker();
+            gc.setFill(grassColor);
+            gc.fillRect(cellX, cellY, tileSize, tileSize);
+        }
+    }
+
+    /**
+     * Dessine un mur indestructible
+     */
+    private void drawWall(GraphicsContext gc, int cellX, int cellY, int tileSize) {
+        // Utiliser le sprite de mur si disponible
+        if (hasSprite(Sprite.UNBREAKABLE_WALL)) {
+            atlas.draw(gc, Sprite.UNBREAKABLE_WALL, cellX, cellY);
+        } else {
+            // Fallback: Mur indestructible avec effet 3D
+            gc.setFill(Color.DARKGRAY);
+            gc.fillRect(cellX, cellY, tileSize, tileSize);
+
+            // Effet de relief
+            gc.setFill(Color.LIGHTGRAY);
+            gc.fillRect(cellX, cellY, tileSize - 2, tileSize - 2);
+            gc.setFill(Color.GRAY);
+            gc.fillRect(cellX + 2, cellY + 2, tileSize - 4, tileSize - 4);
+
+            gc.setStroke(Color.BLACK);
+            gc.setLineWidth(2);
+            gc.strokeRect(cellX, cellY, tileSize, tileSize);
+        }
+    }
+
+    /**
+     * Dessine un mur destructible
+     */
+    private void drawBreakableWall(GraphicsContext gc, int cellX, int cellY, int tileSize) {
+        // Utiliser le sprite de mur destructible si disponible
+        if (hasSprite(Sprite.BREAKABLE_WALL)) {
+            atlas.draw(gc, Sprite.BREAKABLE_WALL, cellX, cellY);
+        } else {
+            // Fallback: Mur destructible avec texture
+            gc.setFill(Color.BROWN);
+            gc.fillRect(cellX, cellY, tileSize, tileSize);
+
+            // Texture de brique
+            gc.setStroke(Color.DARKRED);
+            gc.setLineWidth(1);
+
+            // Lignes horizontales
+            for (int i = 0; i < 3; i++) {
+                gc.strokeLine(cellX, cellY + i * tileSize/3, cellX + tileSize, cellY + i * tileSize/3);
+            }
+
+            // Lignes verticales décalées
+            for (int i = 0; i < 2; i++) {
+                int offset = (i % 2 == 0) ? 0 : tileSize/2;
+                gc.strokeLine(cellX + tileSize/2 + offset, cellY + i * tileSize/3,
+                        cellX + tileSize/2 + offset, cellY + (i + 1) * tileSize/3);
+            }
+
+            gc.setStroke(Color.BLACK);
+            gc.setLineWidth(2);
+            gc.strokeRect(cellX, cellY, tileSize, tileSize);
+        }
+    }
+
+    /**
+     * Dessine une explosion
+     * @param progress Avancement de l'explosion (entre 0 et 1)
+     */
+    private void drawExplosion(GraphicsContext gc, int cellX, int cellY, int tileSize, double progress) {
+        // Utiliser le sprite d'explosion si disponible
+        if (hasSprite(Sprite.EXPLOSION)) {
+            // Animation simple: faire pulser l'explosion
+            int size = (int)(tileSize * (1 - progress * 0.2));
+            int offset = (tileSize - size) / 2;
+            atlas.draw(gc, Sprite.EXPLOSION, cellX + offset, cellY + offset, size, size);
+        } else {
+            // Fallback: Animation d'explosion
+            // Couleur qui évolue
+            Color explosionColor = Color.YELLOW.interpolate(Color.ORANGE, progress);
+            gc.setFill(explosionColor);
+            gc.fillRect(cellX, cellY, tileSize, tileSize);
+
+            // Effet d'explosion animé avec étincelles
+            gc.setFill(Color.RED);
+            int explosionSize = (int)(tileSize * (1 - progress * 0.3));
+            int offset = (tileSize - explosionSize) / 2;
+            gc.fillRect(cellX + offset, cellY + offset, explosionSize, explosionSize);
+
+            // Étincelles
+            gc.setFill(Color.WHITE);
+            for (int i = 0; i < 3; i++) {
+                int sparkleX = cellX + (int)(Math.random() * tileSize);
+                int sparkleY = cellY + (int)(Math.random() * tileSize);
+                gc.fillOval(sparkleX, sparkleY, 3, 3);
+            }
+        }
+    }
+
+    /**
+     * Indique si un sprite est disponible dans l'atlas courant
+     */
+    private boolean hasSprite(Sprite sprite) {
+        return atlas != null && atlas.contains(sprite);
+    }
+}
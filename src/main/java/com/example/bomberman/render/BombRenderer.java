@@ -0,0 +1,67 @@
+package com.example.bomberman.render;
+
+import com.example.bomberman.models.world.GameSnapshot.BombState;
+import com.example.bomberman.utils.SpriteAtlas;
+import com.example.bomberman.utils.SpriteAtlas.Sprite;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * Adaptateur de rendu des bombes
+ */
+public class BombRenderer {
+    // Sprites du thème actuel, à la taille des cases (défini par GameRenderer)
+    private SpriteAtlas atlas;
+
+    /**
+     * Définit l'atlas de sprites utilisé (null : rendu par défaut)
+     */
+    public void setAtlas(SpriteAtlas atlas) {
+        this.atlas = atlas;
+    }
+
+    /**
+     * Dessine une bombe
+     * @param gc Contexte graphique
+     * @param bomb La bombe à dessiner
+     * @param tileSize Taille d'une case en pixels
+     */
+    public void render(GraphicsContext gc, BombState bomb, int tileSize) {
+        int x = bomb.getX();
+        int y = bomb.getY();
+
+        // Calculer la pulsation basée sur le temps restant
+        long timeLeft = bomb.getTimeLeft();
+        double pulsation = Math.sin(bomb.getElapsedTime() / 200.0);
+
+        // Taille qui pulse
+        int size = (int)(tileSize * 0.8 + pulsation * 3);
+        int offset = (tileSize - size) / 2;
+
+        // Dessiner le sprite si disponible, sinon utiliser le rendu par défaut
+        if (atlas != null && atlas.contains(Sprite.BOMB)) {
+            atlas.draw(gc, Sprite.BOMB, x * tileSize + offset, y * tileSize + offset, size, size);
+        } else {
+            // Couleur qui change selon le temps restant
+            if (timeLeft > 2000) {
+                gc.setFill(Color.BLACK);
+            } else if (timeLeft > 1000) {
+                gc.setFill(Color.DARKRED);
+            } else {
+                gc.setFill(Color.RED);
+            }
+
+            gc.fillOval(x * tileSize + offset, y * tileSize + offset, size, size);
+
+            // Mèche de la bombe
+            gc.setStroke(Color.ORANGE);
+            gc.setLineWidth(3);
+            gc.strokeLine(
+                    x * tileSize + tileSize/2,
+                    y * tileSize + offset,
+                    x * tileSize + tileSize/2,
+                    y * tileSize + offset - 10
+            );
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.bomberman.render;
+
+import com.example.bomberman.models.world.BitPlane;
+import com.example.bomberman.models.world.GameSnapshot;
+import com.example.bomberman.models.world.GameSnapshot.PlayerState;
+
+/**
+ * Caméra du rendu : zone du plateau visible dans le canvas
+ * Elle suit les joueurs vivants (le milieu des deux) sans sortir du plateau ; un plateau plus petit
+ * que le canvas reste affiché en haut à gauche. Seules les cases visibles sont dessinées
+ */
+public class Camera {
+    // Coin haut gauche de la zone visible, en pixels du plateau
+    private int x;
+    private int y;
+
+    // Cases visibles, même partiellement (bornes incluses)
+    private int minCellX, minCellY;
+    private int maxCellX, maxCellY;
+
+    /**
+     * Centre la caméra sur les joueurs vivants
+     * @param snapshot L'instantané affiché
+     * @param renderTick Instant affiché, en ticks (position interpolée des joueurs)
+     * @param tileSize Taille d'une case en pixels
+     * @param viewWidth Largeur du canvas
+     * @param viewHeight Hauteur du canvas
+     */
+    public void follow(GameSnapshot snapshot, double renderTick, int tileSize, double viewWidth, double viewHeight) {
+        PlayerState player1 = snapshot.getPlayer1();
+        PlayerState player2 = snapshot.getPlayer2();
+        boolean follow1 = player1 != null && player1.isAlive();
+        boolean follow2 = player2 != null && player2.isAlive();
+        int count = (follow1 ? 1 : 0) + (follow2 ? 1 : 0);
+        double centerX = 0;
+        double centerY = 0;
+        if (follow1) {
+            centerX += player1.getRenderX(renderTick) + 0.5;
+            centerY += player1.getRenderY(renderTick) + 0.5;
+        }
+        if (follow2) {
+            centerX += player2.getRenderX(renderTick) + 0.5;
+            centerY += player2.getRenderY(renderTick) + 0.5;
+        }
+
+        int worldWidth = snapshot.getWidth() * tileSize;
+        int worldHeight = snapshot.getHeight() * tileSize;
+        // Sans joueur vivant, la caméra reste en place
+        int targetX = count > 0 ? (int) Math.round(centerX / count * tileSize - viewWidth / 2) : x;
+        int targetY = count > 0 ? (int) Math.round(centerY / count * tileSize - viewHeight / 2) : y;
+        x = clamp(targetX, worldWidth - (int) viewWidth);
+        y = clamp(targetY, worldHeight - (int) viewHeight);
+
+        minCellX = x / tileSize;
+        minCellY = y / tileSize;
+        maxCellX = Math.min(snapshot.getWidth() - 1, (x + (int) Math.ceil(viewWidth) - 1) / tileSize);
+        maxCellY = Math.min(snapshot.getHeight() - 1, (y + (int) Math.ceil(viewHeight) - 1) / tileSize);
+    }
+
+    private static int clamp(int position, int max) {
+        return Math.max(0, Math.min(position, max));
+    }
+
+    /**
+     * Indique si une entité sur cette case peut apparaître à l'écran
+     * Une case de marge est comptée : les joueurs glissent entre deux cases et les entités
+     * débordent sur la case du dessus
+     */
+    public boolean isVisible(int cellX, int cellY) {
+        return cellX >= minCellX - 1 && cellX <= maxCellX + 1
+                && cellY >= minCellY - 1 && cellY <= maxCellY + 1;
+    }
+
+    /**
+     * Marque les cases visibles dans un plan de bits aux dimensions du plateau
+     */
+    public void collectVisibleCells(BitPlane out) {
+        out.clearAll();
+        for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                out.set(cellY * out.getWidth() + cellX);
+            }
+        }
+    }
+
+    // Getters
+    public int getX() { return x; }
+    public int getY() { return y; }
+    public int getMinCellX() { return minCellX; }
+    public int getMinCellY() { return minCellY; }
+    public int getMaxCellX() { return maxCellX; }
+    public int getMaxCellY() { return maxCellY; }
+}
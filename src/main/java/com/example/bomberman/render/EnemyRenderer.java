@@ -0,0 +1,79 @@
+package com.example.bomberman.render;
+
+import com.example.bomberman.models.entities.Enemy;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * Adaptateur de rendu des ennemis
+ */
+public class EnemyRenderer {
+    private Color color = Color.PURPLE;
+
+    /**
+     * Dessine un ennemi
+     * @param gc Contexte graphique
+     * @param enemy L'ennemi à dessiner
+     * @param tileSize Taille d'une case en pixels
+     */
+    public void render(GraphicsContext gc, Enemy enemy, int tileSize) {
+        int x = enemy.getX();
+        int y = enemy.getY();
+
+        // Corps de l'ennemi
+        gc.setFill(color);
+        int size = (int)(tileSize * 0.8);
+        int offset = (tileSize - size) / 2;
+        gc.fillOval(x * tileSize + offset, y * tileSize + offset, size, size);
+        
+        // Contour
+        gc.setStroke(Color.BLACK);
+        gc.setLineWidth(2);
+        gc.strokeOval(x * tileSize + offset, y * tileSize + offset, size, size);
+        
+        // Yeux
+        gc.setFill(Color.WHITE);
+        int eyeSize = Math.max(3, tileSize / 8);
+        gc.fillOval(x * tileSize + tileSize/3 - eyeSize/2, y * tileSize + tileSize/3, eyeSize, eyeSize);
+        gc.fillOval(x * tileSize + 2*tileSize/3 - eyeSize/2, y * tileSize + tileSize/3, eyeSize, eyeSize);
+        
+        // Pupilles (qui regardent dans la direction du mouvement)
+        gc.setFill(Color.BLACK);
+        int pupilSize = Math.max(1, eyeSize / 2);
+        int pupilOffsetX = 0;
+        int pupilOffsetY = 0;
+        
+        switch (enemy.getCurrentDirection()) {
+            case 0: // Haut
+                pupilOffsetY = -1;
+                break;
+            case 1: // Droite
+                pupilOffsetX = 1;
+                break;
+            case 2: // Bas
+                pupilOffsetY = 1;
+                break;
+            case 3: // Gauche
+                pupilOffsetX = -1;
+                break;
+        }
+        
+        gc.fillOval(
+                x * tileSize + tileSize/3 - pupilSize/2 + pupilOffsetX, 
+                y * tileSize + tileSize/3 + pupilOffsetY, 
+                pupilSize, pupilSize);
+        gc.fillOval(
+                x * tileSize + 2*tileSize/3 - pupilSize/2 + pupilOffsetX, 
+                y * tileSize + tileSize/3 + pupilOffsetY, 
+                pupilSize, pupilSize);
+    }
+
+    // Getters et setters
+    public Color getColor() {
+        return color;
+    }
+
+    public void setColor(Color color) {
+        this.color = color;
+    }
+}
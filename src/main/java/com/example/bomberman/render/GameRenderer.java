@@ -0,0 +1,308 @@
+package com.example.bomberman.render;
+
+import com.example.bomberman.models.world.BitPlane;
+import com.example.bomberman.models.world.GameBoard;
+import com.example.bomberman.models.world.GameSnapshot;
+import com.example.bomberman.models.world.GameSnapshot.BombState;
+import com.example.bomberman.models.world.GameSnapshot.PlayerState;
+import com.example.bomberman.models.world.GameSnapshot.PowerUpState;
+import com.example.bomberman.utils.ResourceManager;
+import com.example.bomberman.utils.SpriteAtlas;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * Rendu complet d'une partie, couche par couche : plateau (statique puis dynamique),
+ * puis entités (power-ups, joueurs, bombes)
+ * Regroupe les adaptateurs de rendu pour que la simulation n'ait aucune dépendance à JavaFX
+ * Le rendu lit uniquement un instantané publié par la simulation, jamais la partie elle-même
+ *
+ * Le canvas n'est pas effacé à chaque frame : seules les cases modifiées (signalées par l'instantané)
+ * et les cases animées sont redessinées. Un rendu complet est fait au premier affichage,
+ * quand le plateau, sa disposition, la taille des cases ou celle du canvas changent, quand la caméra
+ * se déplace, ou sur demande. Seules les cases visibles par la caméra sont dessinées
+ */
+public class GameRenderer {
+    private final BoardRenderer boardRenderer;
+    private final PlayerRenderer playerRenderer;
+    private final BombRenderer bombRenderer;
+    private final PowerUpRenderer powerUpRenderer;
+
+    // Sprites résolus une fois pour une taille de case, rechargés au changement de thème
+    private final ResourceManager.ThemeListener themeListener = theme -> spritesStale = true;
+    private volatile boolean spritesStale = true;
+    private int spritesTileSize;
+
+    // Instant affiché, en ticks (fraction de tick comprise)
+    private double renderTick;
+
+    // Zone du plateau affichée, qui suit les joueurs
+    private final Camera camera = new Camera();
+
+    // État du dernier rendu complet
+    private boolean fullRepaintRequested = true;
+    private int lastBoard;
+    private long lastSequence;
+    private int lastLayoutVersion;
+    private int lastTileSize;
+    private double lastCanvasWidth;
+    private double lastCanvasHeight;
+    private int lastCameraX;
+    private int lastCameraY;
+
+    // Cases à redessiner, cases animées de cette frame et de la précédente, cases invalidées par un overlay
+    private BitPlane dirtyCells;
+    private BitPlane animatedCells;
+    private BitPlane previousAnimatedCells;
+    private BitPlane shiftedCells;
+    private BitPlane forcedCells;
+    private BitPlane visibleCells;
+
+    /**
+     * Constructeur
+     */
+    public GameRenderer() {
+        this.boardRenderer = new BoardRenderer();
+        this.playerRenderer = new PlayerRenderer();
+        this.bombRenderer = new BombRenderer();
+        this.powerUpRenderer = new PowerUpRenderer();
+        ResourceManager.getInstance().addThemeListener(themeListener);
+    }
+
+    /**
+     * Dessine un instantané de la partie
+     * @param gc Contexte graphique
+     * @param snapshot Le dernier instantané publié par la simulation
+     * @param tileSize Taille d'une case en pixels
+     * @param alpha Fraction du tick suivant déjà écoulée (entre 0 et 1), pour interpoler les déplacements
+     */
+    public void render(GraphicsContext gc, GameSnapshot snapshot, int tileSize, double alpha) {
+        if (snapshot == null) return;
+        renderTick = snapshot.getTick() + alpha;
+
+        if (spritesStale || tileSize != spritesTileSize) {
+            bindSprites(tileSize);
+        }
+
+        Canvas canvas = gc.getCanvas();
+        camera.follow(snapshot, renderTick, tileSize, canvas.getWidth(), canvas.getHeight());
+
+        if (needsFullRepaint(canvas, snapshot, tileSize)) {
+            renderFull(gc, snapshot, tileSize);
+        } else {
+            renderDirty(gc, snapshot, tileSize);
+        }
+        lastSequence = snapshot.getSequence();
+    }
+
+    /**
+     * Résout l'atlas du thème actuel et le transmet aux adaptateurs de rendu
+     * Les sprites ayant changé, toute la frame est redessinée
+     */
+    private void bindSprites(int tileSize) {
+        spritesStale = false;
+        spritesTileSize = tileSize;
+
+        SpriteAtlas atlas = ResourceManager.getInstance().getAtlas(tileSize);
+        boardRenderer.setAtlas(atlas);
+        playerRenderer.setAtlas(atlas);
+        bombRenderer.setAtlas(atlas);
+        powerUpRenderer.setAtlas(atlas);
+        invalidate();
+    }
+
+    /**
+     * Demande un rendu complet à la prochaine frame (changement de thème, overlay plein écran...)
+     */
+    public void invalidate() {
+        fullRepaintRequested = true;
+    }
+
+    /**
+     * Demande de redessiner à la prochaine frame les cases sous une zone du canvas
+     * (à appeler après avoir dessiné un overlay par-dessus le jeu)
+     */
+    public void invalidateArea(double x, double y, double width, double height) {
+        if (forcedCells == null || lastTileSize <= 0) {
+            invalidate();
+            return;
+        }
+
+        // Coordonnées du canvas vers coordonnées du plateau
+        x += lastCameraX;
+        y += lastCameraY;
+        int minX = Math.max(0, (int) (x / lastTileSize));
+        int minY = Math.max(0, (int) (y / lastTileSize));
+        int maxX = Math.min(forcedCells.getWidth() - 1, (int) ((x + width) / lastTileSize));
+        int maxY = Math.min(forcedCells.getHeight() - 1, (int) ((y + height) / lastTileSize));
+        for (int cellY = minY; cellY <= maxY; cellY++) {
+            for (int cellX = minX; cellX <= maxX; cellX++) {
+                forcedCells.set(cellY * forcedCells.getWidth() + cellX);
+            }
+        }
+    }
+
+    /**
+     * Indique si la frame doit être entièrement redessinée
+     */
+    private boolean needsFullRepaint(Canvas canvas, GameSnapshot snapshot, int tileSize) {
+        return fullRepaintRequested
+                || snapshot.getBoardGeneration() != lastBoard
+                || snapshot.getLayoutVersion() != lastLayoutVersion
+                || tileSize != lastTileSize
+                || canvas.getWidth() != lastCanvasWidth
+                || canvas.getHeight() != lastCanvasHeight
+                || camera.getX() != lastCameraX
+                || camera.getY() != lastCameraY
+                || dirtyCells == null
+                || dirtyCells.getWidth() != snapshot.getWidth()
+                || dirtyCells.getHeight() != snapshot.getHeight();
+    }
+
+    /**
+     * Efface le canvas et redessine toute la zone visible
+     */
+    private void renderFull(GraphicsContext gc, GameSnapshot snapshot, int tileSize) {
+        Canvas canvas = gc.getCanvas();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+
+        gc.save();
+        gc.translate(-camera.getX(), -camera.getY());
+        boardRenderer.render(gc, snapshot, tileSize, camera);
+        renderEntities(gc, snapshot, tileSize);
+        gc.restore();
+
+        if (dirtyCells == null || dirtyCells.getWidth() != snapshot.getWidth()
+                || dirtyCells.getHeight() != snapshot.getHeight()) {
+            dirtyCells = snapshot.newPlane();
+            animatedCells = snapshot.newPlane();
+            previousAnimatedCells = snapshot.newPlane();
+            shiftedCells = snapshot.newPlane();
+            forcedCells = snapshot.newPlane();
+            visibleCells = snapshot.newPlane();
+        }
+        camera.collectVisibleCells(visibleCells);
+
+        // Tout vient d'être dessiné : les modifications de cet instantané sont prises en compte
+        forcedCells.clearAll();
+        collectAnimatedCells(snapshot, previousAnimatedCells);
+
+        fullRepaintRequested = false;
+        lastBoard = snapshot.getBoardGeneration();
+        lastLayoutVersion = snapshot.getLayoutVersion();
+        lastTileSize = tileSize;
+        lastCanvasWidth = canvas.getWidth();
+        lastCanvasHeight = canvas.getHeight();
+        lastCameraX = camera.getX();
+        lastCameraY = camera.getY();
+    }
+
+    /**
+     * Redessine uniquement les cases modifiées et les cases animées
+     */
+    private void renderDirty(GraphicsContext gc, GameSnapshot snapshot, int tileSize) {
+        dirtyCells.clearAll();
+        if (snapshot.getSequence() != lastSequence) {
+            // Un instantané n'apporte ses cases modifiées qu'une fois
+            dirtyCells.or(snapshot.getDirtyCells());
+        }
+        dirtyCells.or(forcedCells);
+        forcedCells.clearAll();
+
+        // Les entités animées sont redessinées à chaque frame, et leur case de la frame précédente aussi
+        // (une entité disparue laisse sa trace sinon)
+        collectAnimatedCells(snapshot, animatedCells);
+        dirtyCells.or(animatedCells);
+        dirtyCells.or(previousAnimatedCells);
+        BitPlane swap = previousAnimatedCells;
+        previousAnimatedCells = animatedCells;
+        animatedCells = swap;
+
+        // La mèche des bombes et les indicateurs des joueurs débordent sur la case du dessus
+        dirtyCells.shiftInto(0, -1, shiftedCells);
+        dirtyCells.or(shiftedCells);
+
+        // Les cases hors de la caméra ne sont pas dessinées
+        dirtyCells.and(visibleCells);
+        if (dirtyCells.isEmpty()) return;
+
+        // Limiter le dessin aux cases à redessiner
+        int width = snapshot.getWidth();
+        gc.save();
+        gc.translate(-camera.getX(), -camera.getY());
+        gc.beginPath();
+        for (int index = dirtyCells.nextSetBit(0); index >= 0; index = dirtyCells.nextSetBit(index + 1)) {
+            gc.rect((index % width) * tileSize, (index / width) * tileSize, tileSize, tileSize);
+        }
+        gc.clip();
+
+        boardRenderer.renderCells(gc, snapshot, tileSize, dirtyCells);
+        renderEntities(gc, snapshot, tileSize);
+
+        gc.restore();
+    }
+
+    /**
+     * Marque les cases dont le dessin change d'une frame à l'autre : explosions, bombes, power-ups et joueurs
+     */
+    private void collectAnimatedCells(GameSnapshot snapshot, BitPlane out) {
+        out.clearAll();
+        snapshot.forEachCell(GameBoard.EXPLOSION, out::set);
+        snapshot.forEachCell(GameBoard.BOMB, out::set);
+        for (int i = 0; i < snapshot.getPowerUpCount(); i++) {
+            PowerUpState powerUp = snapshot.getPowerUp(i);
+            out.set(powerUp.getY() * snapshot.getWidth() + powerUp.getX());
+        }
+        markPlayer(snapshot.getPlayer1(), snapshot, out);
+        markPlayer(snapshot.getPlayer2(), snapshot, out);
+    }
+
+    /**
+     * Marque la case d'un joueur et sa case de départ (il peut être affiché à cheval entre les deux)
+     */
+    private void markPlayer(PlayerState player, GameSnapshot snapshot, BitPlane out) {
+        if (player == null || !player.isAlive()) return;
+        markCell(player.getX(), player.getY(), snapshot, out);
+        markCell(player.getPreviousX(), player.getPreviousY(), snapshot, out);
+    }
+
+    private void markCell(int x, int y, GameSnapshot snapshot, BitPlane out) {
+        if (x >= 0 && x < snapshot.getWidth() && y >= 0 && y < snapshot.getHeight()) {
+            out.set(y * snapshot.getWidth() + x);
+        }
+    }
+
+    /**
+     * Dessine la couche des entités : power-ups, joueurs puis bombes
+     * Les entités hors de la caméra sont ignorées
+     */
+    private void renderEntities(GraphicsContext gc, GameSnapshot snapshot, int tileSize) {
+        PlayerState player1 = snapshot.getPlayer1();
+        PlayerState player2 = snapshot.getPlayer2();
+        long currentTime = snapshot.currentTimeMillis();
+
+        // Dessiner les power-ups
+        for (int i = 0; i < snapshot.getPowerUpCount(); i++) {
+            PowerUpState powerUp = snapshot.getPowerUp(i);
+            if (camera.isVisible(powerUp.getX(), powerUp.getY())) {
+                powerUpRenderer.render(gc, powerUp, currentTime, tileSize);
+            }
+        }
+
+        // Dessiner les joueurs
+        if (player1 != null && player1.isAlive() && camera.isVisible(player1.getX(), player1.getY())) {
+            playerRenderer.render(gc, player1, renderTick, currentTime, tileSize);
+        }
+        if (player2 != null && player2.isAlive() && camera.isVisible(player2.getX(), player2.getY())) {
+            playerRenderer.render(gc, player2, renderTick, currentTime, tileSize);
+        }
+
+        // Dessiner les bombes
+        for (int i = 0; i < snapshot.getBombCount(); i++) {
+            BombState bomb = snapshot.getBomb(i);
+            if (camera.isVisible(bomb.getX(), bomb.getY())) {
+                bombRenderer.render(gc, bomb, tileSize);
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.bomberman.render;
+
+import com.example.bomberman.models.world.GameSnapshot.PlayerState;
+import com.example.bomberman.utils.SpriteAtlas;
+import com.example.bomberman.utils.SpriteAtlas.Sprite;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * Adaptateur de rendu des joueurs
+ */
+public class PlayerRenderer {
+    // Sprites par joueur (indice = identifiant du joueur - 1), la droite étant pré-inversée dans l'atlas
+    private static final Sprite[] FRONT_SPRITES = {Sprite.P1_FRONT, Sprite.P2_FRONT};
+    private static final Sprite[] BACK_SPRITES = {Sprite.P1_BACK, Sprite.P2_BACK};
+    private static final Sprite[] LEFT_SPRITES = {Sprite.P1_LEFT, Sprite.P2_LEFT};
+    private static final Sprite[] RIGHT_SPRITES = {Sprite.P1_RIGHT, Sprite.P2_RIGHT};
+
+    // Sprites du thème actuel, à la taille des cases (défini par GameRenderer)
+    private SpriteAtlas atlas;
+
+    /**
+     * Définit l'atlas de sprites utilisé (null : rendu par défaut)
+     */
+    public void setAtlas(SpriteAtlas atlas) {
+        this.atlas = atlas;
+    }
+
+    /**
+     * Retourne la couleur d'un joueur
+     * @param playerId Identifiant du joueur
+     * @return Bleu pour le joueur 1, rouge pour le joueur 2
+     */
+    public static Color getPlayerColor(int playerId) {
+        return playerId == 1 ? Color.BLUE : Color.RED;
+    }
+
+    /**
+     * Dessine un joueur
+     * @param gc Contexte graphique
+     * @param player Le joueur à dessiner
+     * @param renderTick Instant affiché en ticks, fraction de tick comprise (pour interpoler le déplacement)
+     * @param currentTime Instant de la simulation en millisecondes
+     * @param tileSize Taille d'une case en pixels
+     */
+    public void render(GraphicsContext gc, PlayerState player, double renderTick, long currentTime, int tileSize) {
+        if (!player.isAlive()) return;
+
+        // Position glissant entre la case de départ et la case d'arrivée, arrondie au pixel
+        int cellX = (int) Math.round(player.getRenderX(renderTick) * tileSize);
+        int cellY = (int) Math.round(player.getRenderY(renderTick) * tileSize);
+        
+        // Effet de clignotement si invincible
+        if (player.isInvincible() && (currentTime / 200) % 2 == 0) {
+            return;
+        }
+        
+        // Utiliser les sprites si disponibles
+        int index = player.getPlayerId() == 1 ? 0 : 1;
+        Sprite spriteToUse = null;
+        
+        switch (player.getFacing()) {
+            case UP:
+                spriteToUse = BACK_SPRITES[index];
+                break;
+            case DOWN:
+                spriteToUse = FRONT_SPRITES[index];
+                break;
+            case LEFT:
+                spriteToUse = LEFT_SPRITES[index];
+                break;
+            case RIGHT:
+                // Sprite gauche inversé horizontalement à la construction de l'atlas
+                spriteToUse = RIGHT_SPRITES[index];
+                break;
+        }
+        
+        if (spriteToUse != null && atlas != null && atlas.contains(spriteToUse)) {
+            atlas.draw(gc, spriteToUse, cellX, cellY);
+            
+            // Effet visuel si le joueur a un skull
+            if (player.hasSkull()) {
+                gc.setGlobalAlpha(0.5);
+                gc.setFill(Color.PURPLE);
+                gc.fillOval(cellX, cellY, tileSize, tileSize);
+                gc.setGlobalAlpha(1.0);
+            }
+        } else {
+            // Rendu par défaut si les sprites ne sont pas disponibles
+            renderDefaultPlayer(gc, player, cellX, cellY, tileSize);
+        }
+
+        // Indicateurs de power-ups (petits icônes)
+        renderPowerUpIndicators(gc, player, cellX, cellY, tileSize);
+    }
+    
+    /**
+     * Rendu par défaut si les sprites ne sont pas disponibles
+     */
+    private void renderDefaultPlayer(GraphicsContext gc, PlayerState player, int cellX, int cellY, int tileSize) {
+
+        // Animation de pulsation si le joueur a un skull
+        double pulseEffect = player.hasSkull() ? Math.sin(player.getAnimationOffset() * 3) * 0.1 : 0;
+        int effectiveSize = (int)((tileSize - 10) * (1 + pulseEffect));
+        int offset = (tileSize - effectiveSize) / 2;
+
+        // Couleur avec effet si nécessaire
+        Color color = getPlayerColor(player.getPlayerId());
+        Color renderColor = player.hasSkull() ? Color.PURPLE.interpolate(color, 0.5) : color;
+
+        // Corps du joueur (plus stylé)
+        gc.setFill(renderColor);
+        gc.fillOval(cellX + offset, cellY + offset, effectiveSize, effectiveSize);
+
+        // Contour plus épais
+        gc.setStroke(Color.BLACK);
+        gc.setLineWidth(3);
+        gc.strokeOval(cellX + offset, cellY + offset, effectiveSize, effectiveSize);
+
+        // Yeux
+        gc.setFill(Color.WHITE);
+        int eyeSize = Math.max(3, tileSize / 8);
+        gc.fillOval(cellX + tileSize/3 - eyeSize/2, cellY + tileSize/3, eyeSize, eyeSize);
+        gc.fillOval(cellX + 2*tileSize/3 - eyeSize/2, cellY + tileSize/3, eyeSize, eyeSize);
+
+        // Pupilles
+        gc.setFill(Color.BLACK);
+        int pupilSize = Math.max(1, eyeSize / 2);
+        gc.fillOval(cellX + tileSize/3 - pupilSize/2, cellY + tileSize/3 + 1, pupilSize, pupilSize);
+        gc.fillOval(cellX + 2*tileSize/3 - pupilSize/2, cellY + tileSize/3 + 1, pupilSize, pupilSize);
+
+        // Numéro du joueur
+        gc.setFill(Color.WHITE);
+        gc.setFont(javafx.scene.text.Font.font("Arial", javafx.scene.text.FontWeight.BOLD, 12));
+        gc.fillText(String.valueOf(player.getPlayerId()), cellX + tileSize/2 - 3, cellY + 2*tileSize/3);
+    }
+
+    /**
+     * Affiche les indicateurs de power-ups actifs
+     */
+    private void renderPowerUpIndicators(GraphicsContext gc, PlayerState player, int cellX, int cellY, int tileSize) {
+        int indicatorY = cellY - 5;
+        int indicatorSize = 8;
+        int spacing = 10;
+        int startX = cellX;
+
+        int indicatorIndex = 0;
+
+        // Indicateur de portée élevée
+        if (player.getBombRange() > 1) {
+            gc.setFill(Color.RED);
+            gc.fillRect(startX + indicatorIndex * spacing, indicatorY, indicatorSize, indicatorSize);
+            gc.setFill(Color.WHITE);
+            gc.fillText("F", startX + indicatorIndex * spacing + 1, indicatorY + 7);
+            indicatorIndex++;
+        }
+
+        // Indicateur de bombes multiples
+        if (player.getMaxBombs() > 1) {
+            gc.setFill(Color.ORANGE);
+            gc.fillRect(startX + indicatorIndex * spacing, indicatorY, indicatorSize, indicatorSize);
+            gc.setFill(Color.BLACK);
+            gc.fillText("B", startX + indicatorIndex * spacing + 1, indicatorY + 7);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.bomberman.render;
+
+import com.example.bomberman.models.entities.PowerUp;
+import com.example.bomberman.models.world.GameSnapshot.PowerUpState;
+import com.example.bomberman.utils.SpriteAtlas;
+import com.example.bomberman.utils.SpriteAtlas.Sprite;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+/**
+ * Adaptateur de rendu des power-ups
+ */
+public class PowerUpRenderer {
+    // Sprites du thème actuel, à la taille des cases (défini par GameRenderer)
+    private SpriteAtlas atlas;
+
+    /**
+     * Définit l'atlas de sprites utilisé (null : rendu par défaut)
+     */
+    public void setAtlas(SpriteAtlas atlas) {
+        this.atlas = atlas;
+    }
+
+    /**
+     * Dessine un power-up
+     * @param gc Contexte graphique
+     * @param powerUp Le power-up à dessiner
+     * @param currentTime Instant de la simulation en millisecondes
+     * @param tileSize Taille d'une case en pixels
+     */
+    public void render(GraphicsContext gc, PowerUpState powerUp, long currentTime, int tileSize) {
+
+        int x = powerUp.getX();
+        int y = powerUp.getY();
+        long timeAlive = powerUp.getElapsedTime();
+
+        // Effet de clignotement avant disparition
+        boolean shouldBlink = timeAlive > PowerUp.BLINK_DURATION - 3000; // 3 dernières secondes
+        if (shouldBlink && (currentTime / 200) % 2 == 0) {
+            return; // Ne pas dessiner (effet clignotant)
+        }
+
+        int centerX = x * tileSize + tileSize / 2;
+        int centerY = y * tileSize + tileSize / 2;
+        int size = tileSize - 10;
+        
+        // Sprite correspondant au type de power-up (déjà réduit dans sa case de l'atlas)
+        Sprite sprite = null;
+        switch (powerUp.getType()) {
+            case BOMB_UP:
+                sprite = Sprite.BOMB_BONUS;
+                break;
+            case FIRE_UP:
+                sprite = Sprite.BOMB_RANGE;
+                break;
+            case SKULL:
+                sprite = Sprite.DOOMED;
+                break;
+        }
+        
+        // Si un sprite est disponible, l'utiliser
+        if (sprite != null && atlas != null && atlas.contains(sprite)) {
+            // Animation simple: faire flotter le power-up
+            double offsetY = Math.sin(timeAlive / 300.0) * 3;
+            atlas.draw(gc, sprite, x * tileSize, y * tileSize + offsetY);
+        } else {
+            // Fallback: rendu par défaut si le sprite n'est pas disponible
+            switch (powerUp.getType()) {
+                case BOMB_UP:
+                    gc.setFill(Color.ORANGE);
+                    gc.fillRect(x * tileSize + 5, y * tileSize + 5, size, size);
+                    gc.setFill(Color.BLACK);
+                    gc.fillText("B+", centerX - 10, centerY + 5);
+                    break;
+
+                case FIRE_UP:
+                    gc.setFill(Color.RED);
+                    gc.fillRect(x * tileSize + 5, y * tileSize + 5, size, size);
+                    gc.setFill(Color.WHITE);
+                    gc.fillText("F+", centerX - 10, centerY + 5);
+                    break;
+                    
+                case SKULL:
+                    gc.setFill(Color.PURPLE);
+                    gc.fillRect(x * tileSize + 5, y * tileSize + 5, size, size);
+                    gc.setFill(Color.WHITE);
+                    gc.fillText("💀", centerX - 8, centerY + 5);
+                    break;
+            }
+
+            // Contour
+            gc.setStroke(Color.BLACK);
+            gc.setLineWidth(2);
+            gc.strokeRect(x * tileSize + 5, y * tileSize + 5, size, size);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.bomberman.service;
+
+/**
+ * Compteurs de performance du jeu (ticks de simulation, frames affichées, retard abandonné,
+ * commandes perdues, mises à jour du HUD)
+ * Les taux par seconde sont recalculés une fois par seconde à partir des totaux
+ * Les compteurs peuvent être mis à jour depuis le thread de simulation et le thread JavaFX
+ */
+public class PerformanceMetrics {
+    private static PerformanceMetrics instance;
+
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+
+    // Totaux depuis le lancement
+    private long totalTicks;
+    private long totalFrames;
+    private long totalDroppedTicks;
+    private long totalDroppedInputs;
+    private long totalHudUpdates;
+
+    // Taux mesurés sur la dernière seconde
+    private long windowStart = -1;
+    private long windowTicks;
+    private long windowFrames;
+    private long windowHudUpdates;
+    private int ticksPerSecond;
+    private int framesPerSecond;
+    private int hudUpdatesPerSecond;
+
+    /**
+     * Constructeur privé (singleton)
+     */
+    private PerformanceMetrics() {
+    }
+
+    /**
+     * Retourne l'instance unique des métriques
+     */
+    public static synchronized PerformanceMetrics getInstance() {
+        if (instance == null) {
+            instance = new PerformanceMetrics();
+        }
+        return instance;
+    }
+
+    /**
+     * Enregistre des ticks de simulation exécutés
+     * @param ticks Nombre de ticks
+     */
+    public synchronized void recordTicks(int ticks) {
+        totalTicks += ticks;
+        windowTicks += ticks;
+    }
+
+    /**
+     * Enregistre des ticks abandonnés parce que le rattrapage maximal a été atteint
+     * @param ticks Nombre de ticks abandonnés
+     */
+    public synchronized void recordDroppedTicks(long ticks) {
+        totalDroppedTicks += ticks;
+    }
+
+    /**
+     * Enregistre une commande de joueur perdue parce que la file des commandes était pleine
+     */
+    public synchronized void recordDroppedInput() {
+        totalDroppedInputs++;
+    }
+
+    /**
+     * Enregistre la modification d'un label du HUD
+     */
+    public synchronized void recordHudUpdate() {
+        totalHudUpdates++;
+        windowHudUpdates++;
+    }
+
+    /**
+     * Enregistre une frame affichée et met à jour les taux par seconde
+     */
+    public synchronized void recordFrame() {
+        totalFrames++;
+        windowFrames++;
+
+        long now = System.nanoTime();
+        if (windowStart < 0) {
+            windowStart = now;
+        } else if (now - windowStart >= WINDOW_NANOS) {
+            double seconds = (now - windowStart) / (double) WINDOW_NANOS;
+            ticksPerSecond = (int) Math.round(windowTicks / seconds);
+            framesPerSecond = (int) Math.round(windowFrames / seconds);
+            hudUpdatesPerSecond = (int) Math.round(windowHudUpdates / seconds);
+            windowStart = now;
+            windowTicks = 0;
+            windowFrames = 0;
+            windowHudUpdates = 0;
+        }
+    }
+
+    /**
+     * Retourne un résumé lisible des métriques
+     * Les réserves d'entités appartiennent à la partie : leurs compteurs sont lus par l'appelant
+     * @param poolHits Entités réutilisées par les réserves de la partie
+     * @param poolMisses Entités que les réserves n'ont pas pu fournir
+     */
+    public synchronized String getSummary(long poolHits, long poolMisses) {
+        return "TPS: " + ticksPerSecond + " | FPS: " + framesPerSecond + " | Ticks abandonnés: " + totalDroppedTicks
+                + (totalDroppedInputs > 0 ? " | Commandes perdues: " + totalDroppedInputs : "")
+                + " | Réserves: " + poolHits + "/" + (poolHits + poolMisses) + " | HUD: " + hudUpdatesPerSecond + "/s";
+    }
+
+    // Getters
+    public synchronized long getTotalTicks() { return totalTicks; }
+    public synchronized long getTotalFrames() { return totalFrames; }
+    public synchronized long getTotalDroppedTicks() { return totalDroppedTicks; }
+    public synchronized long getTotalDroppedInputs() { return totalDroppedInputs; }
+    public synchronized int getTicksPerSecond() { return ticksPerSecond; }
+    public synchronized int getFramesPerSecond() { return framesPerSecond; }
+    public synchronized long getTotalHudUpdates() { return totalHudUpdates; }
+    public synchronized int getHudUpdatesPerSecond() { return hudUpdatesPerSecond; }
+}
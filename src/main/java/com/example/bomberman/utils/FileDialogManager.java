@@ -1,5 +1,6 @@
 package com.example.bomberman.utils;
 
+import com.example.bomberman.models.world.LevelFormat;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
@@ -127,7 +128,7 @@ public class FileDialogManager {
         // Sélection d'un fichier existant
         fileList.getSelectionModel().selectedItemProperty().addListener((obs, oldVal, newVal) -> {
             if (newVal != null) {
-                fileName.setText(newVal.replace(".level", ""));
+                fileName.setText(newVal.endsWith(LevelFormat.BINARY_EXTENSION) ? newVal : newVal.replace(".level", ""));
             }
         });
         
@@ -144,6 +145,10 @@ public class FileDialogManager {
             if (dialogButton == saveButtonType) {
                 String name = fileName.getText().trim();
                 if (!name.isEmpty()) {
+                    // Un nom terminé par .blevel est enregistré au format binaire
+                    if (name.endsWith(LevelFormat.BINARY_EXTENSION)) {
+                        return LEVELS_DIR + File.separator + name;
+                    }
                     return LEVELS_DIR + File.separator + name + ".level";
                 }
             }
@@ -222,7 +227,7 @@ public class FileDialogManager {
         createLevelsDirectory();
         
         File dir = new File(LEVELS_DIR);
-        File[] files = dir.listFiles((d, name) -> name.endsWith(".level"));
+        File[] files = dir.listFiles((d, name) -> name.endsWith(".level") || name.endsWith(LevelFormat.BINARY_EXTENSION));
         
         List<String> fileNames = new ArrayList<>();
         boolean hasAutoSave = false;
@@ -0,0 +1,120 @@
+package com.example.bomberman.utils;
+
+import com.example.bomberman.service.PerformanceMetrics;
+
+/**
+ * Pilote de simulation à pas de temps fixe
+ * La logique du jeu avance par ticks discrets (60 Hz par défaut) grâce à un accumulateur,
+ * indépendamment de la fréquence d'affichage
+ */
+public class FixedTimestepLoop {
+    public static final int DEFAULT_TICK_RATE = 60;
+    public static final int DEFAULT_MAX_TICKS_PER_FRAME = 5;
+
+    private final Runnable tickAction;
+    private final long tickNanos;
+    private final int maxTicksPerFrame;
+    private final boolean countsFrames;
+
+    private long lastFrameTime;
+    private long accumulator;
+    private PerformanceMetrics metrics;
+
+    /**
+     * Constructeur avec la fréquence par défaut
+     * @param tickAction Action exécutée à chaque tick de simulation
+     */
+    public FixedTimestepLoop(Runnable tickAction) {
+        this(tickAction, DEFAULT_TICK_RATE, DEFAULT_MAX_TICKS_PER_FRAME);
+    }
+
+    /**
+     * Constructeur
+     * @param tickAction Action exécutée à chaque tick de simulation
+     * @param tickRate Nombre de ticks par seconde
+     * @param maxTicksPerFrame Nombre maximum de ticks rattrapés en une seule frame
+     */
+    public FixedTimestepLoop(Runnable tickAction, int tickRate, int maxTicksPerFrame) {
+        this(tickAction, tickRate, maxTicksPerFrame, true);
+    }
+
+    /**
+     * Constructeur
+     * @param tickAction Action exécutée à chaque tick de simulation
+     * @param tickRate Nombre de ticks par seconde
+     * @param maxTicksPerFrame Nombre maximum de ticks rattrapés en une seule frame
+     * @param countsFrames true si chaque appel à advance correspond à une frame affichée
+     *                     (false quand la simulation tourne sur son propre thread)
+     */
+    public FixedTimestepLoop(Runnable tickAction, int tickRate, int maxTicksPerFrame, boolean countsFrames) {
+        if (tickRate <= 0 || maxTicksPerFrame <= 0) {
+            throw new IllegalArgumentException("La fréquence et le rattrapage doivent être positifs");
+        }
+        this.tickAction = tickAction;
+        this.tickNanos = 1_000_000_000L / tickRate;
+        this.maxTicksPerFrame = maxTicksPerFrame;
+        this.countsFrames = countsFrames;
+        this.metrics = PerformanceMetrics.getInstance();
+        reset();
+    }
+
+    /**
+     * Fait avancer la simulation jusqu'à l'instant donné
+     * @param now Horodatage de la frame en nanosecondes (celui de l'AnimationTimer)
+     * @return Le nombre de ticks exécutés pendant cette frame
+     */
+    public int advance(long now) {
+        if (lastFrameTime < 0) {
+            // Première frame : on démarre sans rattrapage
+            lastFrameTime = now;
+            if (countsFrames) metrics.recordFrame();
+            return 0;
+        }
+
+        long elapsed = Math.max(0, now - lastFrameTime);
+        lastFrameTime = now;
+        accumulator += elapsed;
+
+        int ticks = 0;
+        while (accumulator >= tickNanos && ticks < maxTicksPerFrame) {
+            tickAction.run();
+            accumulator -= tickNanos;
+            ticks++;
+        }
+
+        // Au-delà du rattrapage maximal, on abandonne le retard plutôt que de geler l'affichage
+        if (accumulator >= tickNanos) {
+            long dropped = accumulator / tickNanos;
+            accumulator -= dropped * tickNanos;
+            metrics.recordDroppedTicks(dropped);
+        }
+
+        metrics.recordTicks(ticks);
+        if (countsFrames) metrics.recordFrame();
+        return ticks;
+    }
+
+    /**
+     * Réinitialise l'horloge (à appeler au démarrage ou à la reprise d'une partie)
+     */
+    public void reset() {
+        lastFrameTime = -1;
+        accumulator = 0;
+    }
+
+    /**
+     * Retourne la fraction du prochain tick déjà écoulée (entre 0 et 1)
+     * @return Le facteur d'interpolation pour le rendu
+     */
+    public double getAlpha() {
+        return (double) accumulator / tickNanos;
+    }
+
+    /**
+     * Retourne la durée d'un tick
+     * @return Durée d'un tick en nanosecondes
+     */
+    public long getTickNanos() {
+        return tickNanos;
+    }
+}
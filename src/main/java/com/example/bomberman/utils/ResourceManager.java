@@ -3,7 +3,11 @@ package com.example.bomberman.utils;
 import javafx.scene.image.Image;
 
 import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
@@ -32,11 +36,24 @@ public class ResourceManager {
         }
     }
     
+    /**
+     * Notification d'un changement de thème (les sprites résolus doivent être rechargés)
+     */
+    public interface ThemeListener {
+        void onThemeChanged(Theme theme);
+    }
+
     // Cache pour les sprites
     private final Map<String, Image> spriteCache;
+
+    // Atlas du thème actuel, par taille de case
+    private final Map<Integer, SpriteAtlas> atlasCache;
     
     // Thème actuel
     private Theme currentTheme;
+
+    // Abonnés aux changements de thème (références faibles : un abonné oublié n'est pas retenu)
+    private final List<WeakReference<ThemeListener>> themeListeners;
     
     // Pour vérifier si JavaFX est disponible
     private boolean javafxAvailable;
@@ -49,6 +66,8 @@ public class ResourceManager {
      */
     private ResourceManager() {
         spriteCache = new HashMap<>();
+        atlasCache = new HashMap<>();
+        themeListeners = new ArrayList<>();
         currentTheme = Theme.DEFAULT;
         random = new Random();
         checkJavaFXAvailability();
@@ -87,6 +106,42 @@ public class ResourceManager {
             currentTheme = theme;
             clearCache(); // Vider le cache lors du changement de thème
             System.out.println("Thème changé pour: " + theme.getFolderName());
+            notifyThemeChanged();
+        }
+    }
+
+    /**
+     * Abonne un objet aux changements de thème
+     * Seule une référence faible est gardée : l'abonné doit être conservé par son propriétaire
+     * @param listener L'abonné
+     */
+    public void addThemeListener(ThemeListener listener) {
+        themeListeners.add(new WeakReference<>(listener));
+    }
+
+    /**
+     * Désabonne un objet des changements de thème
+     * @param listener L'abonné
+     */
+    public void removeThemeListener(ThemeListener listener) {
+        themeListeners.removeIf(reference -> {
+            ThemeListener registered = reference.get();
+            return registered == null || registered == listener;
+        });
+    }
+
+    /**
+     * Prévient les abonnés du changement de thème
+     */
+    private void notifyThemeChanged() {
+        Iterator<WeakReference<ThemeListener>> iterator = themeListeners.iterator();
+        while (iterator.hasNext()) {
+            ThemeListener listener = iterator.next().get();
+            if (listener == null) {
+                iterator.remove();
+            } else {
+                listener.onThemeChanged(currentTheme);
+            }
         }
     }
     
@@ -103,6 +158,7 @@ public class ResourceManager {
      */
     public void clearCache() {
         spriteCache.clear();
+        atlasCache.clear();
         System.out.println("Cache de sprites vidé");
     }
     
@@ -156,6 +212,24 @@ public class ResourceManager {
         return sprite;
     }
     
+    /**
+     * Retourne l'atlas des sprites du thème actuel pour une taille de case
+     * L'atlas est construit au premier appel (sur le thread JavaFX) puis gardé en cache jusqu'au changement de thème
+     * Il est destiné à être résolu une fois et gardé par le rendu (voir addThemeListener), pas recherché à chaque frame
+     * @param tileSize Taille d'une case en pixels
+     * @return L'atlas, ou null si JavaFX n'est pas disponible
+     */
+    public SpriteAtlas getAtlas(int tileSize) {
+        if (!javafxAvailable) return null;
+
+        SpriteAtlas atlas = atlasCache.get(tileSize);
+        if (atlas == null) {
+            atlas = new SpriteAtlas(this, tileSize);
+            atlasCache.put(tileSize, atlas);
+        }
+        return atlas;
+    }
+
     /**
      * Charge un sprite depuis un chemin spécifique
      * @param path Chemin vers le sprite
@@ -0,0 +1,92 @@
+package com.example.bomberman.utils;
+
+import com.example.bomberman.models.world.GameSounds;
+import com.example.bomberman.service.SoundManager;
+import javafx.application.Platform;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Thread dédié à la simulation
+ * Les ticks sont exécutés à pas de temps fixe hors du thread JavaFX : une décision de bot lente
+ * ne gèle plus l'affichage. Les effets sonores demandés par la simulation sont rejoués sur le thread JavaFX
+ */
+public class SimulationThread {
+    private final FixedTimestepLoop loop;
+    private volatile boolean running;
+    private Thread thread;
+
+    /**
+     * Constructeur
+     * @param tickAction Action exécutée à chaque tick, sur le thread de simulation
+     */
+    public SimulationThread(Runnable tickAction) {
+        this.loop = new FixedTimestepLoop(tickAction, FixedTimestepLoop.DEFAULT_TICK_RATE,
+                FixedTimestepLoop.DEFAULT_MAX_TICKS_PER_FRAME, false);
+    }
+
+    /**
+     * Démarre la simulation (sans effet si elle tourne déjà)
+     */
+    public void start() {
+        if (running) return;
+
+        GameSounds.setSink(soundName -> Platform.runLater(() -> SoundManager.getInstance().playSound(soundName)));
+        loop.reset();
+        running = true;
+        thread = new Thread(this::run, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Arrête la simulation et attend la fin du tick en cours
+     * Après l'appel, la partie n'est plus modifiée par la simulation : on attend que le thread
+     * soit terminé, même si l'attente est interrompue
+     */
+    public void stop() {
+        if (thread == null) return;
+
+        running = false;
+        LockSupport.unpark(thread);
+        boolean interrupted = false;
+        // Appelé depuis un tick : la boucle s'arrêtera à la fin de celui-ci
+        while (thread.isAlive() && thread != Thread.currentThread()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+        GameSounds.useSoundManager();
+    }
+
+    /**
+     * Boucle du thread : avance la simulation puis dort jusqu'au prochain tick
+     */
+    private void run() {
+        long tickNanos = loop.getTickNanos();
+        try {
+            while (running) {
+                loop.advance(System.nanoTime());
+                long untilNextTick = tickNanos - (long) (loop.getAlpha() * tickNanos);
+                LockSupport.parkNanos(Math.max(untilNextTick, 0));
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Erreur dans le thread de simulation: " + e.getMessage());
+            e.printStackTrace();
+            running = false;
+        }
+    }
+
+    /**
+     * Indique si la simulation tourne
+     */
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.bomberman.utils;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/**
+ * Atlas de sprites : tous les sprites d'un thème regroupés dans une seule texture,
+ * déjà mis à l'échelle de la taille des cases et déjà inversés quand il le faut
+ * Le rendu ne fait que des copies de sous-rectangles, sans transformation ni redimensionnement
+ */
+public class SpriteAtlas {
+
+    /**
+     * Sprites disponibles dans l'atlas
+     */
+    public enum Sprite {
+        TILE("tile"),
+        UNBREAKABLE_WALL("unbreakable_wall"),
+        BREAKABLE_WALL("breakable_wall"),
+        EXPLOSION("explosion"),
+        BOMB("bomb"),
+        BOMB_BONUS("bomb_bonus", 5, false),
+        BOMB_RANGE("bomb_range", 5, false),
+        DOOMED("doomed", 5, false),
+        P1_FRONT("p1_front"),
+        P1_BACK("p1_back"),
+        P1_LEFT("p1_left"),
+        P1_RIGHT("p1_left", 0, true),
+        P2_FRONT("p2_front"),
+        P2_BACK("p2_back"),
+        P2_LEFT("p2_left"),
+        P2_RIGHT("p2_left", 0, true);
+
+        private final String fileName;
+        private final int inset;
+        private final boolean mirrored;
+
+        Sprite(String fileName) {
+            this(fileName, 0, false);
+        }
+
+        /**
+         * @param fileName Nom du fichier du sprite (sans extension)
+         * @param inset Marge en pixels autour du sprite dans sa case
+         * @param mirrored true si le sprite est inversé horizontalement
+         */
+        Sprite(String fileName, int inset, boolean mirrored) {
+            this.fileName = fileName;
+            this.inset = inset;
+            this.mirrored = mirrored;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+    }
+
+    // Espace vide entre deux cases de l'atlas (évite de lire les pixels voisins lors d'un redimensionnement)
+    private static final int PADDING = 1;
+
+    private final ResourceManager.Theme theme;
+    private final int tileSize;
+    private final WritableImage texture;
+
+    // Coin supérieur gauche de chaque sprite dans la texture, -1 si le sprite est absent
+    private final int[] regionX = new int[Sprite.values().length];
+    private final int[] regionY = new int[Sprite.values().length];
+
+    /**
+     * Construit l'atlas (doit être appelé sur le thread JavaFX)
+     * @param resourceManager Gestionnaire chargeant les images du thème
+     * @param tileSize Taille d'une case en pixels
+     */
+    SpriteAtlas(ResourceManager resourceManager, int tileSize) {
+        this.theme = resourceManager.getCurrentTheme();
+        this.tileSize = tileSize;
+
+        Sprite[] sprites = Sprite.values();
+        int cellSize = tileSize + 2 * PADDING;
+        int columns = (int) Math.ceil(Math.sqrt(sprites.length));
+        int rows = (sprites.length + columns - 1) / columns;
+
+        Canvas canvas = new Canvas(columns * cellSize, rows * cellSize);
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setImageSmoothing(true);
+
+        for (Sprite sprite : sprites) {
+            int i = sprite.ordinal();
+            Image image = resourceManager.loadSprite(sprite.fileName);
+            if (image == null) {
+                regionX[i] = -1;
+                regionY[i] = -1;
+                continue;
+            }
+
+            regionX[i] = (i % columns) * cellSize + PADDING;
+            regionY[i] = (i / columns) * cellSize + PADDING;
+
+            int size = tileSize - 2 * sprite.inset;
+            int x = regionX[i] + sprite.inset;
+            int y = regionY[i] + sprite.inset;
+            if (sprite.mirrored) {
+                // L'image est inversée horizontalement une fois pour toutes, à la construction
+                gc.save();
+                gc.translate(x + size, y);
+                gc.scale(-1, 1);
+                gc.drawImage(image, 0, 0, size, size);
+                gc.restore();
+            } else {
+                gc.drawImage(image, x, y, size, size);
+            }
+        }
+
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        this.texture = canvas.snapshot(parameters, null);
+    }
+
+    /**
+     * Indique si le sprite a été trouvé pour ce thème
+     */
+    public boolean contains(Sprite sprite) {
+        return regionX[sprite.ordinal()] >= 0;
+    }
+
+    /**
+     * Dessine un sprite à sa taille pré-calculée (une case), sans redimensionnement
+     * @param x Abscisse du coin supérieur gauche de la case en pixels
+     * @param y Ordonnée du coin supérieur gauche de la case en pixels
+     */
+    public void draw(GraphicsContext gc, Sprite sprite, double x, double y) {
+        int i = sprite.ordinal();
+        if (regionX[i] < 0) return;
+        gc.drawImage(texture, regionX[i], regionY[i], tileSize, tileSize, x, y, tileSize, tileSize);
+    }
+
+    /**
+     * Dessine un sprite à une autre taille (animations de pulsation)
+     */
+    public void draw(GraphicsContext gc, Sprite sprite, double x, double y, double width, double height) {
+        int i = sprite.ordinal();
+        if (regionX[i] < 0) return;
+        gc.drawImage(texture, regionX[i], regionY[i], tileSize, tileSize, x, y, width, height);
+    }
+
+    // Getters
+    public ResourceManager.Theme getTheme() { return theme; }
+    public int getTileSize() { return tileSize; }
+    public Image getTexture() { return texture; }
+}
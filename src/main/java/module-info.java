@@ -20,4 +20,5 @@ module com.example.bomberman {
     opens com.example.bomberman.service to javafx.fxml;
     exports com.example.bomberman.models.entities;
     opens com.example.bomberman.models.entities to javafx.fxml;
+    exports com.example.bomberman.render;
 }
\ No newline at end of file
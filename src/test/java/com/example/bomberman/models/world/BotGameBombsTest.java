@@ -0,0 +1,107 @@
+package com.example.bomberman.models.world;
+
+import com.example.bomberman.models.entities.Bomb;
+import com.example.bomberman.models.entities.Player;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Partie contre un bot jouée longtemps sans affichage : les bombes posées restent bornées
+ * et ne sont exposées qu'à travers une vue en lecture seule, toujours à jour
+ */
+class BotGameBombsTest {
+    private static final int TICKS = 60 * 60 * SimulationContext.TICKS_PER_SECOND; // Une heure de jeu
+    // Assez de vies pour que la partie ne se termine pas avant la fin de l'heure
+    private static final int UNLIMITED_LIVES = 1_000_000;
+
+    @BeforeAll
+    static void muteSounds() {
+        GameSounds.mute();
+    }
+
+    @Test
+    void bombCountStaysBoundedOverALongGame() {
+        // Partie reproductible : le bot cherche ses coups sans délai, mêmes décisions à chaque exécution
+        Game game = new GameSetup().botOpponent(1).seed(42).build();
+        Player player1 = game.getPlayer1();
+        Player player2 = game.getPlayer2();
+        player1.setLives(UNLIMITED_LIVES);
+        player2.setLives(UNLIMITED_LIVES);
+        List<Bomb> view = game.getBombs();
+        Random script = new Random(7);
+        PlayerCommand[] moves = {PlayerCommand.UP, PlayerCommand.DOWN, PlayerCommand.LEFT, PlayerCommand.RIGHT};
+        int maxBombs = 0;
+
+        // La partie annonce chaque joueur touché sur la console : on la coupe pendant l'heure de jeu
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            for (int tick = 0; tick < TICKS; tick++) {
+                // Le joueur 1 se déplace au hasard et pose des bombes
+                if (tick % 15 == 0) {
+                    PlayerCommand move = moves[script.nextInt(moves.length)];
+                    for (PlayerCommand command : moves) {
+                        game.handleCommandReleased(1, command);
+                    }
+                    game.handleCommandPressed(1, move);
+                    if (script.nextInt(3) == 0) {
+                        game.handleCommandPressed(1, PlayerCommand.BOMB);
+                        game.handleCommandReleased(1, PlayerCommand.BOMB);
+                    }
+                }
+                game.update();
+
+                int bombCount = game.getBombCount();
+                assertEquals(bombCount, view.size(), "la vue doit refléter les bombes posées");
+                assertTrue(bombCount <= player1.getMaxBombs() + player2.getMaxBombs(),
+                        "plus de bombes posées que les joueurs n'en ont: " + bombCount);
+                maxBombs = Math.max(maxBombs, bombCount);
+            }
+        } finally {
+            System.setOut(console);
+        }
+
+        // Une seule partie du début à la fin, toujours exposée par la même vue
+        assertTrue(game.isGameRunning(), "la partie s'est terminée avant la fin de l'heure");
+        assertSame(player1, game.getPlayer1());
+        assertSame(view, game.getBombs());
+        assertTrue(maxBombs > 0, "aucune bombe posée pendant la partie");
+    }
+
+    @Test
+    void bombsViewIsLiveAndReadOnly() {
+        Game game = new GameSetup().botOpponent(3).seed(1).build();
+        List<Bomb> view = game.getBombs();
+
+        game.handleCommandPressed(1, PlayerCommand.BOMB);
+        assertEquals(1, view.size(), "la vue doit voir la bombe posée sans être redemandée");
+        Bomb bomb = view.get(0);
+
+        assertThrows(UnsupportedOperationException.class, () -> view.add(bomb));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(bomb));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> view.set(0, bomb));
+        assertThrows(UnsupportedOperationException.class, view::clear);
+        Iterator<Bomb> iterator = view.iterator();
+        iterator.next();
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+        assertEquals(1, game.getBombCount());
+
+        // La bombe saute et disparaît de la vue
+        for (int tick = 0; tick < 10 * SimulationContext.TICKS_PER_SECOND && !view.isEmpty(); tick++) {
+            game.update();
+        }
+        assertTrue(view.isEmpty(), "la bombe aurait dû exploser");
+    }
+}